@@ -0,0 +1,65 @@
+package net.mysterria.reporter.fixture;
+
+import dev.ua.ikeepcalm.coi.api.CircleOfImaginationAPI;
+import dev.ua.ikeepcalm.coi.api.model.BeyonderData;
+import dev.ua.ikeepcalm.coi.api.model.PathwayData;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * In-memory stand-in for the COI API backed by a synthetic population. The API itself is
+ * a dynamic proxy over plain maps; the model objects are stub-only Mockito mocks created
+ * once at setup and shared between players with the same pathway state, so lookups stay
+ * cheap and thread-safe during measurement.
+ */
+public final class FakeCoiApi {
+
+    private final Map<String, Map<String, Integer>> pathways = new HashMap<>();
+    private final Map<String, BeyonderData> beyonders = new HashMap<>();
+
+    private FakeCoiApi(List<SyntheticPlayers.Player> players) {
+        Map<String, BeyonderData> models = new HashMap<>();
+        for (SyntheticPlayers.Player player : players) {
+            if (!player.beyonder()) {
+                continue;
+            }
+
+            pathways.put(player.name(), Map.of(player.pathway(), player.sequence()));
+            String key = player.pathway() + ":" + player.sequence() + ":" + player.actingStep();
+            beyonders.put(player.name(), models.computeIfAbsent(key, k -> mockBeyonder(player)));
+        }
+    }
+
+    public static CircleOfImaginationAPI create(List<SyntheticPlayers.Player> players) {
+        FakeCoiApi fake = new FakeCoiApi(players);
+        return (CircleOfImaginationAPI) Proxy.newProxyInstance(
+                CircleOfImaginationAPI.class.getClassLoader(),
+                new Class<?>[]{CircleOfImaginationAPI.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "isBeyonder" -> fake.beyonders.containsKey((String) args[0]);
+                    case "getBeyonderData" -> fake.beyonders.get((String) args[0]);
+                    case "getPathways" -> fake.pathways.getOrDefault((String) args[0], Map.of());
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeCoiApi";
+                    default -> throw new UnsupportedOperationException("Not faked: " + method.getName());
+                });
+    }
+
+    private static BeyonderData mockBeyonder(SyntheticPlayers.Player player) {
+        PathwayData pathway = Mockito.mock(PathwayData.class, withSettings().stubOnly());
+        Mockito.when(pathway.acting()).thenReturn((double) player.actingStep());
+        Mockito.when(pathway.neededActing()).thenReturn((double) SyntheticPlayers.ACTING_STEPS);
+        Mockito.when(pathway.lowestSequenceLevel()).thenReturn(player.sequence());
+
+        BeyonderData beyonder = Mockito.mock(BeyonderData.class, withSettings().stubOnly());
+        Mockito.when(beyonder.getPathway(player.pathway())).thenReturn(pathway);
+        return beyonder;
+    }
+}
@@ -0,0 +1,147 @@
+package net.mysterria.reporter.fixture;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Installs a minimal {@link Server} so code that asks Bukkit for offline players, a
+ * logger or the scheduler runs without a Paper server. Synchronous tasks run on a single
+ * "main thread" at the next 50 ms tick boundary, like the real tick loop would. Bukkit
+ * only accepts one server per JVM, so the offline player list is swappable.
+ */
+public final class FakeServer {
+
+    private static final Logger LOGGER = Logger.getLogger("FakeServer");
+    private static volatile OfflinePlayer[] offlinePlayers = new OfflinePlayer[0];
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long EPOCH = System.nanoTime();
+    private static final ScheduledExecutorService MAIN_THREAD = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Server thread");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static volatile Thread mainThread;
+    private static boolean installed;
+
+    private FakeServer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static synchronized void install() {
+        if (installed) {
+            return;
+        }
+
+        MAIN_THREAD.execute(() -> mainThread = Thread.currentThread());
+        BukkitScheduler scheduler = (BukkitScheduler) Proxy.newProxyInstance(
+                BukkitScheduler.class.getClassLoader(),
+                new Class<?>[]{BukkitScheduler.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "runTask" -> {
+                        if (args[1] instanceof Runnable task) {
+                            runOnNextTick(task);
+                        }
+                        yield null;
+                    }
+                    case "runTaskAsynchronously" -> {
+                        if (args[1] instanceof Runnable task) {
+                            Thread.ofVirtual().start(task);
+                        }
+                        yield null;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeScheduler";
+                    default -> throw new UnsupportedOperationException("Not faked: " + method.getName());
+                });
+
+        Server server = (Server) Proxy.newProxyInstance(
+                Server.class.getClassLoader(),
+                new Class<?>[]{Server.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getOfflinePlayers" -> offlinePlayers;
+                    case "getOnlinePlayers" -> List.of();
+                    case "getLogger" -> LOGGER;
+                    case "getScheduler" -> scheduler;
+                    case "isPrimaryThread" -> Thread.currentThread() == mainThread;
+                    case "dispatchCommand" -> true;
+                    case "getName", "getVersion", "getBukkitVersion", "getMinecraftVersion" -> "benchmark";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeServer";
+                    default -> defaultValue(method.getReturnType());
+                });
+
+        try {
+            Bukkit.setServer(server);
+        } catch (RuntimeException e) {
+            // setServer logs version details that may not resolve outside a real server; the instance is already set
+            LOGGER.fine("Bukkit.setServer reported: " + e);
+        }
+        installed = true;
+    }
+
+    private static void runOnNextTick(Runnable task) {
+        long sinceEpoch = System.nanoTime() - EPOCH;
+        long delay = TICK_NANOS - sinceEpoch % TICK_NANOS;
+        MAIN_THREAD.schedule(task, delay, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Replaces the players returned by {@code Bukkit.getOfflinePlayers()}
+     */
+    public static void setOfflinePlayers(List<SyntheticPlayers.Player> players) {
+        OfflinePlayer[] result = new OfflinePlayer[players.size()];
+        for (int i = 0; i < result.length; i++) {
+            String name = players.get(i).name();
+            result[i] = (OfflinePlayer) Proxy.newProxyInstance(
+                    OfflinePlayer.class.getClassLoader(),
+                    new Class<?>[]{OfflinePlayer.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getName" -> name;
+                        case "hashCode" -> name.hashCode();
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> name;
+                        default -> defaultValue(method.getReturnType());
+                    });
+        }
+        offlinePlayers = result;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,39 @@
+package net.mysterria.reporter.fixture;
+
+import net.mysterria.reporter.MysterriaReporter;
+import net.mysterria.reporter.manager.ReporterMetrics;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Stub-only {@link MysterriaReporter} for constructing managers outside a server. The
+ * configuration is a real {@link YamlConfiguration}; background refresh and snapshot
+ * persistence are off unless the caller overrides them.
+ */
+public final class StubPlugin {
+
+    private StubPlugin() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static MysterriaReporter create(File dataFolder, Map<String, Object> overrides) {
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("cache.refresh-interval", 0);
+        config.set("cache.persist-snapshot", false);
+        overrides.forEach(config::set);
+
+        MysterriaReporter plugin = Mockito.mock(MysterriaReporter.class, withSettings().stubOnly());
+        ReporterMetrics metrics = new ReporterMetrics(plugin);
+        Mockito.when(plugin.getConfig()).thenReturn(config);
+        Mockito.when(plugin.getDataFolder()).thenReturn(dataFolder);
+        Mockito.when(plugin.getLogger()).thenReturn(Logger.getLogger("MysterriaReporter"));
+        Mockito.when(plugin.getMetrics()).thenReturn(metrics);
+        return plugin;
+    }
+}
@@ -0,0 +1,58 @@
+package net.mysterria.reporter.fixture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic population of fake players. The same count and seed always produce the
+ * same names and pathway state, so benchmark and load test runs are comparable.
+ */
+public final class SyntheticPlayers {
+
+    public static final String[] PATHWAYS = {
+            "Fool", "Error", "Door", "Visionary", "Sun", "Tyrant", "White Tower", "Hanged Man",
+            "Darkness", "Death", "Twilight Giant", "Demoness", "Red Priest", "Hermit", "Paragon",
+            "Wheel of Fortune", "Mother", "Moon", "Abyss", "Chained", "Black Emperor", "Justiciar"
+    };
+
+    /** Acting progress is generated in this many steps so fake models can be shared */
+    public static final int ACTING_STEPS = 10;
+
+    /**
+     * One fake player
+     * @param pathway Null for non-beyonders
+     * @param sequence 0-9, lower is more powerful
+     * @param actingStep 0 to {@link #ACTING_STEPS} - 1
+     */
+    public record Player(String name, String pathway, int sequence, int actingStep) {
+
+        public boolean beyonder() {
+            return pathway != null;
+        }
+    }
+
+    private SyntheticPlayers() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * @param beyonderRatio Share of players that are beyonders, between 0 and 1
+     */
+    public static List<Player> generate(int count, double beyonderRatio, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = "Player" + Integer.toString(i, 36) + "_" + Integer.toHexString(random.nextInt(0x10000));
+            if (random.nextDouble() >= beyonderRatio) {
+                players.add(new Player(name, null, 0, 0));
+                continue;
+            }
+
+            // Most beyonders sit at the high, weak sequences
+            int sequence = 9 - (int) Math.floor(Math.sqrt(random.nextInt(100)));
+            players.add(new Player(name, PATHWAYS[random.nextInt(PATHWAYS.length)], sequence, random.nextInt(ACTING_STEPS)));
+        }
+        return players;
+    }
+}
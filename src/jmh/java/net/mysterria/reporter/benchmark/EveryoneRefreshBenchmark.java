@@ -0,0 +1,85 @@
+package net.mysterria.reporter.benchmark;
+
+import dev.ua.ikeepcalm.coi.api.CircleOfImaginationAPI;
+import net.mysterria.reporter.fixture.FakeCoiApi;
+import net.mysterria.reporter.fixture.FakeServer;
+import net.mysterria.reporter.fixture.StubPlugin;
+import net.mysterria.reporter.fixture.SyntheticPlayers;
+import net.mysterria.reporter.manager.BeyonderScanner;
+import net.mysterria.reporter.manager.PathwayCacheManager;
+import net.mysterria.reporter.model.EveryonePathwayResponse;
+import net.mysterria.reporter.model.PlayerPathwayResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full everyone refresh at different server sizes: the bare scan, and the complete
+ * path from offline player list to published snapshot (serialized payload and index).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EveryoneRefreshBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int players;
+
+    @Param({"0.3"})
+    public double beyonderRatio;
+
+    private List<String> names;
+    private BeyonderScanner scanner;
+    private PathwayCacheManager cacheManager;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        FakeServer.install();
+        List<SyntheticPlayers.Player> population = SyntheticPlayers.generate(players, beyonderRatio, 42);
+        FakeServer.setOfflinePlayers(population);
+
+        CircleOfImaginationAPI coiAPI = FakeCoiApi.create(population);
+        names = population.stream().map(SyntheticPlayers.Player::name).toList();
+        scanner = new BeyonderScanner(coiAPI, Runtime.getRuntime().availableProcessors(), 256);
+
+        Path dataFolder = Files.createTempDirectory("reporter-bench");
+        cacheManager = new PathwayCacheManager(StubPlugin.create(dataFolder.toFile(), Map.of()), coiAPI);
+        cacheManager.getEveryonePathways();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cacheManager.shutdown();
+    }
+
+    @Benchmark
+    public List<PlayerPathwayResponse> scan() {
+        return scanner.scan(names).resolved();
+    }
+
+    @Benchmark
+    public EveryonePathwayResponse fullRefresh() {
+        cacheManager.invalidateAllCaches();
+        return cacheManager.getEveryonePathways();
+    }
+}
@@ -0,0 +1,77 @@
+package net.mysterria.reporter.benchmark;
+
+import net.mysterria.reporter.util.FileReaderUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FileReaderUtil#readLastLines} against generated COI-style log files. Run time
+ * should depend on the number of lines requested, not on the file size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LogTailBenchmark {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String[] ACTIONS = {
+            "used ability Flame Jump", "gained 12 acting", "digested potion", "entered Spirit World",
+            "activated artifact 4f2a", "lost 3 spirituality", "advanced to sequence 7"
+    };
+
+    @Param({"1", "16", "128"})
+    public int fileMegabytes;
+
+    @Param({"10", "100", "1000"})
+    public int lines;
+
+    private Path logFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        logFile = Files.createTempFile("reporter-bench", ".log");
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime time = LocalDateTime.of(2025, 1, 1, 0, 0);
+        long target = fileMegabytes * 1024L * 1024L;
+
+        try (BufferedWriter writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8)) {
+            long written = 0;
+            while (written < target) {
+                time = time.plusSeconds(random.nextInt(1, 30));
+                String line = "[" + TIMESTAMP.format(time) + "] " + ACTIONS[random.nextInt(ACTIONS.length)];
+                writer.write(line);
+                writer.newLine();
+                written += line.length() + 1;
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public List<String> readLastLines() {
+        return FileReaderUtil.readLastLines(logFile.toAbsolutePath().toString(), lines);
+    }
+}
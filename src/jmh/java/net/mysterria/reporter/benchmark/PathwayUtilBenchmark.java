@@ -0,0 +1,53 @@
+package net.mysterria.reporter.benchmark;
+
+import dev.ua.ikeepcalm.coi.api.CircleOfImaginationAPI;
+import net.mysterria.reporter.fixture.FakeCoiApi;
+import net.mysterria.reporter.fixture.SyntheticPlayers;
+import net.mysterria.reporter.model.PlayerPathwayResponse;
+import net.mysterria.reporter.util.PathwayUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving one player through the COI API, for beyonders and non-beyonders.
+ * Model accessors are stub-only mocks, so compare results between runs rather than
+ * reading them as absolute in-game costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PathwayUtilBenchmark {
+
+    @Param({"true", "false"})
+    public boolean beyonder;
+
+    private CircleOfImaginationAPI coiAPI;
+    private String[] names;
+    private int next;
+
+    @Setup
+    public void setup() {
+        List<SyntheticPlayers.Player> players = SyntheticPlayers.generate(4096, 0.5, 42);
+        coiAPI = FakeCoiApi.create(players);
+        names = players.stream()
+                .filter(player -> player.beyonder() == beyonder)
+                .map(SyntheticPlayers.Player::name)
+                .toArray(String[]::new);
+    }
+
+    @Benchmark
+    public PlayerPathwayResponse getPlayerPathwayData() {
+        next = (next + 1) % names.length;
+        String name = names[next];
+        return PathwayUtil.getPlayerPathwayData(name, coiAPI);
+    }
+}
@@ -0,0 +1,91 @@
+package net.mysterria.reporter.benchmark;
+
+import net.mysterria.reporter.fixture.FakeCoiApi;
+import net.mysterria.reporter.fixture.FakeServer;
+import net.mysterria.reporter.fixture.StubPlugin;
+import net.mysterria.reporter.fixture.SyntheticPlayers;
+import net.mysterria.reporter.manager.PathwayCacheManager;
+import net.mysterria.reporter.model.PlayerPathwayResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PathwayCacheManager#getPlayerPathway} on cached players and on players that
+ * were just invalidated, single-threaded and under contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlayerCacheBenchmark {
+
+    private static final int PLAYERS = 10_000;
+
+    private PathwayCacheManager cacheManager;
+    private String[] names;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int position;
+
+        String next(String[] names) {
+            position = (position + 1) % names.length;
+            return names[position];
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        FakeServer.install();
+        List<SyntheticPlayers.Player> players = SyntheticPlayers.generate(PLAYERS, 0.3, 42);
+        FakeServer.setOfflinePlayers(List.of());
+
+        Path dataFolder = Files.createTempDirectory("reporter-bench");
+        cacheManager = new PathwayCacheManager(
+                StubPlugin.create(dataFolder.toFile(), Map.of("cache.max-player-entries", PLAYERS * 2)),
+                FakeCoiApi.create(players));
+        names = players.stream().map(SyntheticPlayers.Player::name).toArray(String[]::new);
+
+        for (String name : names) {
+            cacheManager.getPlayerPathway(name);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cacheManager.shutdown();
+    }
+
+    @Benchmark
+    public PlayerPathwayResponse hit(Cursor cursor) {
+        return cacheManager.getPlayerPathway(cursor.next(names));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public PlayerPathwayResponse hitContended(Cursor cursor) {
+        return cacheManager.getPlayerPathway(cursor.next(names));
+    }
+
+    @Benchmark
+    public PlayerPathwayResponse miss(Cursor cursor) {
+        String name = cursor.next(names);
+        cacheManager.invalidatePlayerCache(name);
+        return cacheManager.getPlayerPathway(name);
+    }
+}
@@ -0,0 +1,75 @@
+package net.mysterria.reporter.loadtest;
+
+import net.mysterria.reporter.fixture.SyntheticPlayers;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Writes the COI files the endpoints read, laid out under a server root the same way
+ * CircleOfImagination does: one beyonder YAML per beyonder and one activity log per player.
+ */
+final class FakeDataDirectory {
+
+    private static final String BEYONDERS = "plugins/CircleOfImagination/data/beyonders/";
+    private static final String LOGS = "plugins/CircleOfImagination/logs/";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String[] ACTIONS = {
+            "used ability Flame Jump", "gained 12 acting", "digested potion", "entered Spirit World",
+            "activated artifact 4f2a", "lost 3 spirituality", "advanced to sequence 7"
+    };
+
+    private FakeDataDirectory() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * @param root Server root; the endpoints resolve their paths against the working directory
+     * @param logLines Lines written to each player's log
+     */
+    static void write(Path root, List<SyntheticPlayers.Player> players, int logLines) throws IOException {
+        Path beyonders = Files.createDirectories(root.resolve(BEYONDERS));
+        Path logs = Files.createDirectories(root.resolve(LOGS));
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (SyntheticPlayers.Player player : players) {
+            if (player.beyonder()) {
+                Files.writeString(beyonders.resolve(player.name() + ".yml"), beyonderYaml(player, random), StandardCharsets.UTF_8);
+            }
+
+            LocalDateTime time = LocalDateTime.of(2025, 1, 1, 0, 0);
+            try (BufferedWriter writer = Files.newBufferedWriter(logs.resolve(player.name() + ".log"), StandardCharsets.UTF_8)) {
+                for (int i = 0; i < logLines; i++) {
+                    time = time.plusSeconds(random.nextInt(1, 120));
+                    writer.write("[" + TIMESTAMP.format(time) + "] " + player.name() + " " + ACTIONS[random.nextInt(ACTIONS.length)]);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private static String beyonderYaml(SyntheticPlayers.Player player, SplittableRandom random) {
+        StringBuilder yaml = new StringBuilder(512);
+        yaml.append("name: ").append(player.name()).append('\n');
+        yaml.append("spirituality: ").append(random.nextInt(100, 2000)).append('\n');
+        yaml.append("sanity: ").append(random.nextInt(0, 100)).append('\n');
+        yaml.append("pathways:\n");
+        yaml.append("  ").append(player.pathway()).append(":\n");
+        yaml.append("    sequence: ").append(player.sequence()).append('\n');
+        yaml.append("    acting: ").append(player.actingStep() * 10).append('\n');
+        yaml.append("    needed-acting: ").append(SyntheticPlayers.ACTING_STEPS * 10).append('\n');
+        yaml.append("abilities:\n");
+        for (int i = 0; i < 8; i++) {
+            yaml.append("  - id: ability-").append(random.nextInt(500)).append('\n');
+            yaml.append("    cooldown: ").append(random.nextInt(0, 600)).append('\n');
+        }
+        return yaml.toString();
+    }
+}
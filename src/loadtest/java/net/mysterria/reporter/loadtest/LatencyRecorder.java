@@ -0,0 +1,56 @@
+package net.mysterria.reporter.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects latencies of one route. Values are kept exactly so high percentiles are not
+ * smeared by bucketing; a run records at most a few million samples.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private int errors;
+    private int dropped;
+
+    synchronized void record(long nanos, boolean error) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    /**
+     * Counts a request that was not sent because too many were already in flight
+     */
+    synchronized void drop() {
+        dropped++;
+    }
+
+    synchronized Summary summarize() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new Summary(size, errors, dropped,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.99),
+                percentile(sorted, 0.999),
+                size > 0 ? sorted[size - 1] : 0);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Latencies in nanoseconds
+     */
+    record Summary(int count, int errors, int dropped, long p50, long p99, long p999, long max) {
+    }
+}
@@ -0,0 +1,237 @@
+package net.mysterria.reporter.loadtest;
+
+import dev.ua.ikeepcalm.catwalk.hub.webserver.services.CatWalkWebserverService;
+import dev.ua.ikeepcalm.coi.api.CircleOfImaginationAPI;
+import net.mysterria.reporter.MysterriaReporter;
+import net.mysterria.reporter.api.BeyonderDataEndpoint;
+import net.mysterria.reporter.api.BeyonderLogsEndpoint;
+import net.mysterria.reporter.api.EveryonePathwayEndpoint;
+import net.mysterria.reporter.api.PathwayQueryEndpoint;
+import net.mysterria.reporter.api.PlayerPathwayEndpoint;
+import net.mysterria.reporter.fixture.FakeCoiApi;
+import net.mysterria.reporter.fixture.FakeServer;
+import net.mysterria.reporter.fixture.StubPlugin;
+import net.mysterria.reporter.fixture.SyntheticPlayers;
+import net.mysterria.reporter.manager.FileCacheManager;
+import net.mysterria.reporter.manager.LogFlushCoordinator;
+import net.mysterria.reporter.manager.PathwayCacheManager;
+import net.mysterria.reporter.manager.ReporterMetrics;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the pathway and beyonder endpoints over real HTTP against a local CatWalk
+ * stand-in, a fake COI API and a generated data directory. Requests are sent open-loop
+ * at their scheduled time and latency is measured from that time, so a stalled server
+ * shows up as tail latency instead of silently lowering the request rate.
+ */
+public final class LoadTest {
+
+    private static final String MARKER = "plugins/CircleOfImagination/.loadtest";
+
+    private LoadTest() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        FakeServer.install();
+        List<SyntheticPlayers.Player> players = SyntheticPlayers.generate(options.players(), options.beyonderRatio(), 42);
+        FakeServer.setOfflinePlayers(players);
+        prepareData(options, players);
+
+        Path root = Paths.get("").toAbsolutePath();
+        MysterriaReporter plugin = StubPlugin.create(root.resolve("plugins/MysterriaReporter").toFile(), Map.of());
+        CircleOfImaginationAPI coiAPI = FakeCoiApi.create(players);
+        PathwayCacheManager cacheManager = new PathwayCacheManager(plugin, coiAPI);
+
+        try (LocalWebserver server = new LocalWebserver()) {
+            registerEndpoints(server.asService(), plugin, cacheManager);
+            server.start(options.port());
+
+            long scanStart = System.nanoTime();
+            cacheManager.getEveryonePathways();
+            System.out.printf("Initial scan of %d players took %d ms%n", players.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scanStart));
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            URI base = URI.create("http://127.0.0.1:" + server.port());
+            List<String> names = players.stream().map(SyntheticPlayers.Player::name).toList();
+
+            if (options.warmupSeconds() > 0) {
+                System.out.printf("Warming up for %d s...%n", options.warmupSeconds());
+                run(source(options, names, options.warmupSeconds(), 1), client, base, options.maxInFlight(), new ConcurrentHashMap<>());
+                server.allocations().clear();
+            }
+
+            System.out.println(options.trace() != null ? "Replaying " + options.trace() + "..." : "Measuring for " + options.durationSeconds() + " s...");
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long allocatedBefore = threads.getTotalThreadAllocatedBytes();
+            long[] gcBefore = gcTotals();
+
+            Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+            long elapsed = run(source(options, names, options.durationSeconds(), 2), client, base, options.maxInFlight(), recorders);
+
+            long allocated = threads.getTotalThreadAllocatedBytes() - allocatedBefore;
+            long[] gcAfter = gcTotals();
+            report(recorders, elapsed, allocated, gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1], server.allocations());
+        } finally {
+            cacheManager.shutdown();
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Mirrors {@code MysterriaReporter#registerEndpoints} for the endpoints under test
+     */
+    private static void registerEndpoints(CatWalkWebserverService webserverService, MysterriaReporter plugin,
+                                          PathwayCacheManager cacheManager) {
+        ReporterMetrics metrics = plugin.getMetrics();
+        FileCacheManager fileCacheManager = new FileCacheManager(plugin);
+        LogFlushCoordinator logFlushCoordinator = new LogFlushCoordinator(plugin);
+
+        webserverService.registerHandlers(new PlayerPathwayEndpoint(cacheManager, metrics));
+        EveryonePathwayEndpoint everyoneEndpoint = new EveryonePathwayEndpoint(cacheManager, metrics);
+        webserverService.get("/pathway/everyone", everyoneEndpoint::getEveryonePathway);
+        PathwayQueryEndpoint queryEndpoint = new PathwayQueryEndpoint(cacheManager, metrics);
+        webserverService.get("/pathway/query", queryEndpoint::queryPathways);
+        webserverService.registerHandlers(new BeyonderDataEndpoint(fileCacheManager, metrics));
+        webserverService.registerHandlers(new BeyonderLogsEndpoint(logFlushCoordinator, metrics));
+    }
+
+    private static RequestSource source(LoadTestOptions options, List<String> names, int seconds, long seed) throws IOException {
+        if (options.trace() != null) {
+            return RequestSource.trace(options.trace(), options.traceSpeed());
+        }
+        return RequestSource.mix(RequestSource.parseMix(options.mix()), names, options.rate(),
+                TimeUnit.SECONDS.toNanos(seconds), seed);
+    }
+
+    /**
+     * Sends every request of the source at its scheduled time
+     * @return Nanoseconds from the first scheduled send until the last response
+     */
+    private static long run(RequestSource source, HttpClient client, URI base, int maxInFlight,
+                            Map<String, LatencyRecorder> recorders) {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            RequestSource.Request request;
+            while ((request = source.next()) != null) {
+                long scheduled = start + request.offsetNanos();
+                long wait;
+                while ((wait = scheduled - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                LatencyRecorder recorder = recorders.computeIfAbsent(request.route(), k -> new LatencyRecorder());
+                if (!inFlight.tryAcquire()) {
+                    recorder.drop();
+                    continue;
+                }
+
+                HttpRequest httpRequest = HttpRequest.newBuilder(base.resolve(request.path())).GET().build();
+                executor.execute(() -> {
+                    boolean error = true;
+                    try {
+                        HttpResponse<Void> response = client.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+                        error = response.statusCode() >= 400;
+                    } catch (IOException e) {
+                        // Counted as an error
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        recorder.record(System.nanoTime() - scheduled, error);
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void prepareData(LoadTestOptions options, List<SyntheticPlayers.Player> players) throws IOException {
+        Path root = Paths.get("").toAbsolutePath();
+        Path marker = root.resolve(MARKER);
+        String expected = options.players() + " " + options.beyonderRatio() + " " + options.logLines();
+        if (Files.isRegularFile(marker) && Files.readString(marker).equals(expected)) {
+            return;
+        }
+
+        System.out.printf("Generating COI data for %d players under %s...%n", players.size(), root);
+        FakeDataDirectory.write(root, players, options.logLines());
+        Files.writeString(marker, expected);
+    }
+
+    private static long[] gcTotals() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return new long[]{count, millis};
+    }
+
+    private static void report(Map<String, LatencyRecorder> recorders, long elapsedNanos, long allocatedBytes,
+                               long gcCount, long gcMillis, Map<String, LocalWebserver.RouteAllocation> allocations) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.println();
+        System.out.printf("%-10s %9s %7s %8s %9s %9s %9s %9s %9s%n",
+                "route", "requests", "errors", "dropped", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        int total = 0;
+        for (Map.Entry<String, LatencyRecorder> entry : new TreeMap<>(recorders).entrySet()) {
+            LatencyRecorder.Summary summary = entry.getValue().summarize();
+            total += summary.count();
+            System.out.printf("%-10s %9d %7d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), summary.count(), summary.errors(), summary.dropped(), summary.count() / seconds,
+                    summary.p50() / 1e6, summary.p99() / 1e6, summary.p999() / 1e6, summary.max() / 1e6);
+        }
+
+        System.out.println();
+        System.out.printf("Throughput: %.1f req/s over %.1f s%n", total / seconds, seconds);
+        System.out.printf("JVM allocation rate (client and server): %.1f MB/s%n", allocatedBytes / seconds / (1024 * 1024));
+        System.out.printf("GC: %d collections, %d ms%n", gcCount, gcMillis);
+
+        System.out.println();
+        System.out.println("Server allocation per request:");
+        new TreeMap<>(allocations).forEach((route, allocation) -> {
+            long requests = allocation.requests().sum();
+            if (requests > 0) {
+                System.out.printf("  %-40s %10.1f KiB%n", route, allocation.bytes().sum() / 1024.0 / requests);
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package net.mysterria.reporter.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options of {@link LoadTest}. Generated COI files are written under the
+ * working directory, since the endpoints resolve their paths against it.
+ */
+record LoadTestOptions(double rate, int durationSeconds, int warmupSeconds, int maxInFlight,
+                       String mix, Path trace, double traceSpeed,
+                       int players, double beyonderRatio, int logLines, int port) {
+
+    static final String USAGE = """
+            Options (all optional):
+              --rate <n>            Target requests per second for the mix (default 500)
+              --duration <s>        Measured duration in seconds (default 30)
+              --warmup <s>          Unmeasured warmup at the same rate (default 10)
+              --max-in-flight <n>   Requests in flight before new ones are dropped (default 1024)
+              --mix <spec>          Route weights, e.g. single=60,everyone=5,query=5,beyonder=20,logs=10
+              --trace <file>        Replay '<offset-ms> <path>' lines instead of the mix
+              --trace-speed <x>     Trace playback speed (default 1.0)
+              --players <n>         Synthetic players (default 5000)
+              --beyonder-ratio <x>  Share of beyonders (default 0.3)
+              --log-lines <n>       Lines per generated player log (default 2000)
+              --port <n>            Local port, 0 picks a free one (default 0)
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected '--option value' at: " + args[i]);
+            }
+            values.put(args[i].substring(2), args[++i]);
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Double.parseDouble(values.getOrDefault("rate", "500")),
+                Integer.parseInt(values.getOrDefault("duration", "30")),
+                Integer.parseInt(values.getOrDefault("warmup", "10")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "1024")),
+                values.getOrDefault("mix", "single=60,everyone=5,query=5,beyonder=20,logs=10"),
+                values.containsKey("trace") ? Path.of(values.get("trace")) : null,
+                Double.parseDouble(values.getOrDefault("trace-speed", "1.0")),
+                Integer.parseInt(values.getOrDefault("players", "5000")),
+                Double.parseDouble(values.getOrDefault("beyonder-ratio", "0.3")),
+                Integer.parseInt(values.getOrDefault("log-lines", "2000")),
+                Integer.parseInt(values.getOrDefault("port", "0"))
+        );
+
+        values.keySet().removeAll(Set.of("rate", "duration", "warmup", "max-in-flight", "mix", "trace",
+                "trace-speed", "players", "beyonder-ratio", "log-lines", "port"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (options.rate() <= 0 || options.durationSeconds() <= 0 || options.maxInFlight() <= 0 || options.players() <= 0) {
+            throw new IllegalArgumentException("rate, duration, max-in-flight and players must be positive");
+        }
+        return options;
+    }
+}
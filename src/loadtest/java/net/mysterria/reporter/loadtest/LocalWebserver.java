@@ -0,0 +1,148 @@
+package net.mysterria.reporter.loadtest;
+
+import com.sun.management.ThreadMXBean;
+import dev.ua.ikeepcalm.catwalk.bridge.annotations.BridgeEventHandler;
+import dev.ua.ikeepcalm.catwalk.bridge.annotations.BridgePathParam;
+import dev.ua.ikeepcalm.catwalk.hub.webserver.services.CatWalkWebserverService;
+import io.javalin.Javalin;
+import io.javalin.http.Context;
+import io.javalin.http.Handler;
+import io.javalin.http.HandlerType;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local stand-in for CatWalk's web server: a plain Javalin instance exposed through the
+ * {@link CatWalkWebserverService} methods the plugin calls. Raw handlers are registered
+ * as-is; bridge handlers are dispatched reflectively from their {@link OpenApi} path and
+ * {@link BridgePathParam} parameters, with the result written as JSON like CatWalk does.
+ * Bytes allocated by the handling thread are tracked per route.
+ */
+final class LocalWebserver implements AutoCloseable {
+
+    private static final String ALLOCATION_START = "loadtest.allocationStart";
+
+    private final Javalin app;
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Map<String, RouteAllocation> allocations = new ConcurrentHashMap<>();
+
+    /**
+     * Bytes allocated by the handling thread over all requests to one route
+     */
+    record RouteAllocation(LongAdder bytes, LongAdder requests) {
+
+        RouteAllocation() {
+            this(new LongAdder(), new LongAdder());
+        }
+    }
+
+    LocalWebserver() {
+        this.app = Javalin.create();
+        app.before(ctx -> ctx.attribute(ALLOCATION_START, threads.getCurrentThreadAllocatedBytes()));
+        app.after(ctx -> {
+            Long start = ctx.attribute(ALLOCATION_START);
+            long now = threads.getCurrentThreadAllocatedBytes();
+            if (start != null && start >= 0 && now >= 0) {
+                RouteAllocation allocation = allocations.computeIfAbsent(ctx.endpointHandlerPath(), k -> new RouteAllocation());
+                allocation.bytes().add(now - start);
+                allocation.requests().increment();
+            }
+        });
+    }
+
+    /**
+     * @return The service handed to endpoint registration code
+     */
+    CatWalkWebserverService asService() {
+        return (CatWalkWebserverService) Proxy.newProxyInstance(
+                CatWalkWebserverService.class.getClassLoader(),
+                new Class<?>[]{CatWalkWebserverService.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> {
+                        app.get((String) args[0], (Handler) args[1]);
+                        yield null;
+                    }
+                    case "post" -> {
+                        app.post((String) args[0], (Handler) args[1]);
+                        yield null;
+                    }
+                    case "registerHandlers" -> {
+                        registerBridgeHandlers(args[0]);
+                        yield null;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "LocalWebserver";
+                    default -> throw new UnsupportedOperationException("Not supported by the local web server: " + method.getName());
+                });
+    }
+
+    void start(int port) {
+        app.start("127.0.0.1", port);
+    }
+
+    int port() {
+        return app.port();
+    }
+
+    /**
+     * @return Server-side allocation keyed by route pattern
+     */
+    Map<String, RouteAllocation> allocations() {
+        return allocations;
+    }
+
+    @Override
+    public void close() {
+        app.stop();
+    }
+
+    private void registerBridgeHandlers(Object endpoint) {
+        for (Method method : endpoint.getClass().getMethods()) {
+            OpenApi openApi = method.getAnnotation(OpenApi.class);
+            if (!method.isAnnotationPresent(BridgeEventHandler.class) || openApi == null) {
+                continue;
+            }
+
+            String[] pathParams = new String[method.getParameterCount()];
+            Parameter[] parameters = method.getParameters();
+            for (int i = 0; i < parameters.length; i++) {
+                BridgePathParam pathParam = parameters[i].getAnnotation(BridgePathParam.class);
+                if (pathParam == null) {
+                    throw new IllegalArgumentException("Unsupported parameter " + parameters[i] + " on " + method);
+                }
+                pathParams[i] = pathParam.value();
+            }
+
+            Handler handler = ctx -> invoke(ctx, endpoint, method, pathParams);
+            for (HttpMethod httpMethod : openApi.methods()) {
+                app.addHttpHandler(HandlerType.valueOf(httpMethod.name()), openApi.path(), handler);
+            }
+        }
+    }
+
+    private static void invoke(Context ctx, Object endpoint, Method method, String[] pathParams) throws Exception {
+        Object[] args = new Object[pathParams.length];
+        for (int i = 0; i < pathParams.length; i++) {
+            args[i] = ctx.pathParam(pathParams[i]);
+        }
+
+        try {
+            ctx.json(method.invoke(endpoint, args));
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package net.mysterria.reporter.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Produces the requests of a run, each with the time it should be sent at. Either a
+ * weighted mix of routes over a player population sent at a fixed rate, or a recorded
+ * trace replayed with its own timing.
+ */
+abstract class RequestSource {
+
+    /**
+     * @param route Label the latency is reported under
+     * @param path Request path, including any query string
+     * @param offsetNanos When to send it, relative to the start of the run
+     */
+    record Request(String route, String path, long offsetNanos) {
+    }
+
+    /**
+     * @return The next request, or null when the run is over
+     */
+    abstract Request next();
+
+    /**
+     * Sends a weighted mix of routes at a fixed rate. Player names are skewed so that a fifth
+     * of the players receive four fifths of the requests, like a few popular players would.
+     */
+    static RequestSource mix(Map<String, Integer> weights, List<String> players, double rate, long durationNanos, long seed) {
+        String[] routes = weights.keySet().toArray(String[]::new);
+        int[] cumulative = new int[routes.length];
+        int total = 0;
+        for (int i = 0; i < routes.length; i++) {
+            total += weights.get(routes[i]);
+            cumulative[i] = total;
+        }
+        int totalWeight = total;
+        long intervalNanos = (long) (1_000_000_000L / rate);
+        SplittableRandom random = new SplittableRandom(seed);
+
+        return new RequestSource() {
+            private long sent;
+
+            @Override
+            Request next() {
+                long offset = sent * intervalNanos;
+                if (offset >= durationNanos) {
+                    return null;
+                }
+                sent++;
+
+                int pick = random.nextInt(totalWeight);
+                int index = 0;
+                while (cumulative[index] <= pick) {
+                    index++;
+                }
+                String route = routes[index];
+                return new Request(route, pathFor(route, pickPlayer()), offset);
+            }
+
+            private String pickPlayer() {
+                int hot = Math.max(1, players.size() / 5);
+                return random.nextInt(5) < 4
+                        ? players.get(random.nextInt(hot))
+                        : players.get(random.nextInt(players.size()));
+            }
+        };
+    }
+
+    /**
+     * Replays a trace file. Each line is {@code <offset-ms> <path>}; blank lines and lines
+     * starting with {@code #} are skipped. Requests are labelled with their known route,
+     * or with the path itself for anything else.
+     * @param speed Playback speed, 2.0 replays twice as fast
+     */
+    static RequestSource trace(Path file, double speed) throws IOException {
+        List<Request> requests = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            int space = trimmed.indexOf(' ');
+            if (space < 0) {
+                throw new IllegalArgumentException("Trace line must be '<offset-ms> <path>': " + line);
+            }
+            long offsetMillis = Long.parseLong(trimmed.substring(0, space));
+            String path = trimmed.substring(space + 1).trim();
+            requests.add(new Request(routeOf(path), path, (long) (offsetMillis * 1_000_000L / speed)));
+        }
+        requests.sort((a, b) -> Long.compare(a.offsetNanos(), b.offsetNanos()));
+
+        return new RequestSource() {
+            private int index;
+
+            @Override
+            Request next() {
+                return index < requests.size() ? requests.get(index++) : null;
+            }
+        };
+    }
+
+    static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Mix entries must be route=weight: " + part);
+            }
+            String route = pair[0].trim();
+            pathFor(route, "Player");
+            weights.put(route, Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    static String pathFor(String route, String player) {
+        return switch (route) {
+            case "single" -> "/pathway/single/" + player;
+            case "everyone" -> "/pathway/everyone";
+            case "beyonder" -> "/beyonder/" + player;
+            case "logs" -> "/beyonder/logs/" + player + "/50";
+            case "query" -> "/pathway/query?limit=50";
+            default -> throw new IllegalArgumentException("Unknown route '" + route + "', expected single, everyone, query, beyonder or logs");
+        };
+    }
+
+    static String routeOf(String path) {
+        if (path.startsWith("/pathway/single/")) {
+            return "single";
+        }
+        if (path.startsWith("/pathway/everyone")) {
+            return "everyone";
+        }
+        if (path.startsWith("/pathway/query")) {
+            return "query";
+        }
+        if (path.startsWith("/beyonder/logs/")) {
+            return "logs";
+        }
+        if (path.startsWith("/beyonder/")) {
+            return "beyonder";
+        }
+        int query = path.indexOf('?');
+        return query >= 0 ? path.substring(0, query) : path;
+    }
+}
@@ -6,12 +6,31 @@ import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.mysterria.reporter.api.ArtifactEndpoint;
+import net.mysterria.reporter.api.ArtifactIndexEndpoint;
 import net.mysterria.reporter.api.BeyonderDataEndpoint;
+import net.mysterria.reporter.api.BeyonderExportEndpoint;
+import net.mysterria.reporter.api.BeyonderLogSearchEndpoint;
 import net.mysterria.reporter.api.BeyonderLogsEndpoint;
+import net.mysterria.reporter.api.BeyonderStructuredEndpoint;
 import net.mysterria.reporter.api.EveryonePathwayEndpoint;
+import net.mysterria.reporter.api.LogFollowEndpoint;
+import net.mysterria.reporter.api.MetricsEndpoint;
+import net.mysterria.reporter.api.PathwayBatchEndpoint;
+import net.mysterria.reporter.api.PathwayChangesEndpoint;
+import net.mysterria.reporter.api.PathwayQueryEndpoint;
+import net.mysterria.reporter.api.PathwayStatsEndpoint;
 import net.mysterria.reporter.api.PlayerPathwayEndpoint;
+import net.mysterria.reporter.api.RouteAuth;
 import net.mysterria.reporter.command.CacheCommand;
+import net.mysterria.reporter.listener.PlayerActivityListener;
+import net.mysterria.reporter.manager.ArtifactIndex;
+import net.mysterria.reporter.manager.BeyonderExporter;
+import net.mysterria.reporter.manager.FileCacheManager;
+import net.mysterria.reporter.manager.LogFlushCoordinator;
+import net.mysterria.reporter.manager.LogFollowManager;
+import net.mysterria.reporter.manager.LogSearchManager;
 import net.mysterria.reporter.manager.PathwayCacheManager;
+import net.mysterria.reporter.manager.ReporterMetrics;
 import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.Plugin;
@@ -24,6 +43,13 @@ public class MysterriaReporter extends JavaPlugin {
     private static MysterriaReporter instance;
     private CircleOfImaginationAPI coiAPI;
     private PathwayCacheManager cacheManager;
+    private LogFollowManager logFollowManager;
+    private LogFlushCoordinator logFlushCoordinator;
+    private FileCacheManager fileCacheManager;
+    private LogSearchManager logSearchManager;
+    private BeyonderExporter beyonderExporter;
+    private ArtifactIndex artifactIndex;
+    private ReporterMetrics metrics;
 
     @Override
     public void onEnable() {
@@ -35,7 +61,14 @@ public class MysterriaReporter extends JavaPlugin {
 
         enableCoiApi();
 
+        metrics = new ReporterMetrics(this);
         cacheManager = new PathwayCacheManager(this, coiAPI);
+        logFollowManager = new LogFollowManager(this);
+        logFlushCoordinator = new LogFlushCoordinator(this);
+        fileCacheManager = new FileCacheManager(this);
+        logSearchManager = new LogSearchManager(this);
+        beyonderExporter = new BeyonderExporter(this);
+        artifactIndex = new ArtifactIndex(this);
 
         CatWalkWebserverService webserverService = Bukkit.getServicesManager().load(CatWalkWebserverService.class);
         if (webserverService == null) {
@@ -46,6 +79,7 @@ public class MysterriaReporter extends JavaPlugin {
 
         registerEndpoints(webserverService);
         registerCommands();
+        registerListeners();
 
         log("Mysterria Reporter loaded successfully!");
     }
@@ -60,31 +94,101 @@ public class MysterriaReporter extends JavaPlugin {
         }
     }
 
+    private void registerListeners() {
+        getServer().getPluginManager().registerEvents(new PlayerActivityListener(cacheManager), this);
+    }
+
     private void registerEndpoints(CatWalkWebserverService webserverService) {
+        RouteAuth routeAuth = new RouteAuth(getConfig().getString("auth.token", ""));
+
         if (getConfig().getBoolean("endpoints.player-pathway", true)) {
-            webserverService.registerHandlers(new PlayerPathwayEndpoint(cacheManager));
+            webserverService.registerHandlers(new PlayerPathwayEndpoint(cacheManager, metrics));
             log("Registered PlayerPathwayEndpoint at /pathway/single/{player}");
         }
 
         if (getConfig().getBoolean("endpoints.everyone-pathway", true)) {
-            webserverService.registerHandlers(new EveryonePathwayEndpoint(cacheManager));
+            EveryonePathwayEndpoint everyoneEndpoint = new EveryonePathwayEndpoint(cacheManager, metrics);
+            webserverService.get("/pathway/everyone", everyoneEndpoint::getEveryonePathway);
             log("Registered EveryonePathwayEndpoint at /pathway/everyone");
         }
 
+        if (getConfig().getBoolean("endpoints.pathway-batch", true)) {
+            PathwayBatchEndpoint batchEndpoint = new PathwayBatchEndpoint(cacheManager, metrics);
+            webserverService.post("/pathway/batch", batchEndpoint::getPathways);
+            log("Registered PathwayBatchEndpoint at /pathway/batch");
+        }
+
+        if (getConfig().getBoolean("endpoints.pathway-query", true)) {
+            PathwayQueryEndpoint queryEndpoint = new PathwayQueryEndpoint(cacheManager, metrics);
+            webserverService.get("/pathway/query", queryEndpoint::queryPathways);
+            log("Registered PathwayQueryEndpoint at /pathway/query");
+        }
+
+        if (getConfig().getBoolean("endpoints.pathway-changes", true)) {
+            PathwayChangesEndpoint changesEndpoint = new PathwayChangesEndpoint(cacheManager, metrics);
+            webserverService.get("/pathway/changes/{since}", changesEndpoint::getChanges);
+            log("Registered PathwayChangesEndpoint at /pathway/changes/{since}");
+        }
+
+        if (getConfig().getBoolean("endpoints.pathway-stats", true)) {
+            webserverService.registerHandlers(new PathwayStatsEndpoint(cacheManager, metrics));
+            log("Registered PathwayStatsEndpoint at /pathway/stats");
+        }
+
         if (getConfig().getBoolean("endpoints.beyonder-data", true)) {
-            webserverService.registerHandlers(new BeyonderDataEndpoint());
+            webserverService.registerHandlers(new BeyonderDataEndpoint(fileCacheManager, metrics));
             log("Registered BeyonderDataEndpoint at /beyonder/{player}");
         }
 
+        if (getConfig().getBoolean("endpoints.beyonder-structured", true)) {
+            BeyonderStructuredEndpoint structuredEndpoint = new BeyonderStructuredEndpoint(fileCacheManager, metrics);
+            webserverService.get("/beyonder/structured/{player}", routeAuth.protect(structuredEndpoint::getStructuredData));
+            log("Registered BeyonderStructuredEndpoint at /beyonder/structured/{player}");
+        }
+
         if (getConfig().getBoolean("endpoints.beyonder-logs", true)) {
-            webserverService.registerHandlers(new BeyonderLogsEndpoint());
+            webserverService.registerHandlers(new BeyonderLogsEndpoint(logFlushCoordinator, metrics));
             log("Registered BeyonderLogsEndpoint at /beyonder/logs/{player}/{amount}");
         }
 
+        if (getConfig().getBoolean("endpoints.beyonder-search", true)) {
+            BeyonderLogSearchEndpoint searchEndpoint = new BeyonderLogSearchEndpoint(logSearchManager, logFlushCoordinator,
+                    getConfig().getInt("logs.search.max-results", 1000), getConfig().getLong("logs.search.regex-timeout-ms", 1000), metrics);
+            webserverService.get("/beyonder/search/{player}", routeAuth.protect(searchEndpoint::searchLogs));
+            log("Registered BeyonderLogSearchEndpoint at /beyonder/search/{player}");
+        }
+
+        if (getConfig().getBoolean("endpoints.beyonder-follow", true)) {
+            LogFollowEndpoint followEndpoint = new LogFollowEndpoint(logFollowManager, getConfig().getLong("logs.follow.heartbeat-seconds", 15));
+            webserverService.get("/beyonder/follow/{player}", routeAuth.protect(followEndpoint::followLogs));
+            log("Registered LogFollowEndpoint at /beyonder/follow/{player}");
+        }
+
+        if (getConfig().getBoolean("endpoints.beyonder-export", false)) {
+            BeyonderExportEndpoint exportEndpoint = new BeyonderExportEndpoint(beyonderExporter, metrics);
+            webserverService.get("/export/beyonders", routeAuth.protect(exportEndpoint::exportBeyonders));
+            log("Registered BeyonderExportEndpoint at /export/beyonders");
+        }
+
         if (getConfig().getBoolean("endpoints.artifact", true)) {
-            webserverService.registerHandlers(new ArtifactEndpoint());
+            webserverService.registerHandlers(new ArtifactEndpoint(fileCacheManager, metrics));
             log("Registered ArtifactEndpoint at /artifact/{id}");
         }
+
+        if (getConfig().getBoolean("endpoints.artifact-index", true)) {
+            artifactIndex.start();
+            ArtifactIndexEndpoint indexEndpoint = new ArtifactIndexEndpoint(artifactIndex, metrics);
+            webserverService.get("/artifacts", routeAuth.protect(indexEndpoint::listArtifacts));
+            webserverService.get("/artifacts/owner/{player}", routeAuth.protect(indexEndpoint::listOwnerArtifacts));
+            webserverService.get("/artifacts/{id}", routeAuth.protect(indexEndpoint::getArtifactSummary));
+            log("Registered ArtifactIndexEndpoint at /artifacts, /artifacts/owner/{player} and /artifacts/{id}");
+        }
+
+        if (getConfig().getBoolean("endpoints.metrics", true)) {
+            MetricsEndpoint metricsEndpoint = new MetricsEndpoint(metrics);
+            webserverService.get("/reporter/metrics", routeAuth.protect(metricsEndpoint::getMetrics));
+            log("Registered MetricsEndpoint at /reporter/metrics");
+        }
     }
 
     private void enableCoiApi() {
@@ -116,6 +220,15 @@ public class MysterriaReporter extends JavaPlugin {
         if (cacheManager != null) {
             cacheManager.shutdown();
         }
+        if (logFollowManager != null) {
+            logFollowManager.shutdown();
+        }
+        if (beyonderExporter != null) {
+            beyonderExporter.shutdown();
+        }
+        if (artifactIndex != null) {
+            artifactIndex.shutdown();
+        }
         log("MysterriaReporter has been disabled!");
     }
 
@@ -130,6 +243,9 @@ public class MysterriaReporter extends JavaPlugin {
             cacheManager.invalidateAllCaches();
             cacheManager.refreshEveryoneCache();
         }
+        if (fileCacheManager != null) {
+            fileCacheManager.invalidateAll();
+        }
         log("Configuration reloaded and caches invalidated!");
     }
 }
\ No newline at end of file
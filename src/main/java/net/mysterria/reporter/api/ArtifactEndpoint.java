@@ -5,11 +5,22 @@ import dev.ua.ikeepcalm.catwalk.bridge.annotations.BridgePathParam;
 import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
 import io.javalin.openapi.HttpMethod;
 import io.javalin.openapi.OpenApi;
+import net.mysterria.reporter.manager.FileCacheManager;
+import net.mysterria.reporter.manager.LatencyHistogram;
+import net.mysterria.reporter.manager.ReporterMetrics;
 import net.mysterria.reporter.model.ArtifactResponse;
 import net.mysterria.reporter.util.FileReaderUtil;
 
 public class ArtifactEndpoint {
 
+    private final FileCacheManager fileCache;
+    private final LatencyHistogram latency;
+
+    public ArtifactEndpoint(FileCacheManager fileCache, ReporterMetrics metrics) {
+        this.fileCache = fileCache;
+        this.latency = metrics.endpoint("artifact");
+    }
+
     @OpenApi(
             path = "/artifact/{id}",
             methods = HttpMethod.GET,
@@ -19,23 +30,28 @@ public class ArtifactEndpoint {
     )
     @BridgeEventHandler(description = "Get artifact's raw data file", logRequests = true)
     public BridgeApiResponse<ArtifactResponse> getArtifactData(@BridgePathParam("id") String artifactId) {
-        String sanitizedId = FileReaderUtil.sanitizeArtifactId(artifactId);
-        String filePath = "plugins/CircleOfImagination/artifacts/" + sanitizedId + ".yml";
+        long start = System.nanoTime();
+        try {
+            String sanitizedId = FileReaderUtil.sanitizeArtifactId(artifactId);
+            String filePath = "plugins/CircleOfImagination/artifacts/" + sanitizedId + ".yml";
 
-        String fileContent = FileReaderUtil.readYamlFile(filePath);
+            String fileContent = fileCache.readYamlFile(filePath);
+
+            if (fileContent == null) {
+                return BridgeApiResponse.success(ArtifactResponse.builder()
+                        .artifactId(artifactId)
+                        .data(null)
+                        .found(false)
+                        .build());
+            }
 
-        if (fileContent == null) {
             return BridgeApiResponse.success(ArtifactResponse.builder()
                     .artifactId(artifactId)
-                    .data(null)
-                    .found(false)
+                    .data(fileContent)
+                    .found(true)
                     .build());
+        } finally {
+            latency.recordSince(start);
         }
-
-        return BridgeApiResponse.success(ArtifactResponse.builder()
-                .artifactId(artifactId)
-                .data(fileContent)
-                .found(true)
-                .build());
     }
 }
@@ -0,0 +1,180 @@
+package net.mysterria.reporter.api;
+
+import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import io.javalin.http.ServiceUnavailableResponse;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import io.javalin.openapi.OpenApiContent;
+import io.javalin.openapi.OpenApiParam;
+import io.javalin.openapi.OpenApiResponse;
+import net.mysterria.reporter.manager.ArtifactIndex;
+import net.mysterria.reporter.manager.LatencyHistogram;
+import net.mysterria.reporter.manager.ReporterMetrics;
+import net.mysterria.reporter.model.ArtifactListResponse;
+import net.mysterria.reporter.model.ArtifactSummaryResponse;
+import net.mysterria.reporter.util.FileReaderUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class ArtifactIndexEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 500;
+
+    private final ArtifactIndex index;
+    private final LatencyHistogram listLatency;
+    private final LatencyHistogram ownerLatency;
+    private final LatencyHistogram summaryLatency;
+
+    public ArtifactIndexEndpoint(ArtifactIndex index, ReporterMetrics metrics) {
+        this.index = index;
+        this.listLatency = metrics.endpoint("artifact_list");
+        this.ownerLatency = metrics.endpoint("artifact_owner");
+        this.summaryLatency = metrics.endpoint("artifact_summary");
+    }
+
+    @OpenApi(
+            path = "/artifacts",
+            methods = HttpMethod.GET,
+            summary = "List artifacts",
+            description = "Lists indexed artifacts in id order, optionally filtered by owner, type and pathway, answered from memory",
+            tags = {"Reporter"},
+            queryParams = {
+                    @OpenApiParam(name = "owner", description = "Owner (case-insensitive)"),
+                    @OpenApiParam(name = "type", description = "Artifact type (case-insensitive)"),
+                    @OpenApiParam(name = "pathway", description = "Pathway (case-insensitive)"),
+                    @OpenApiParam(name = "cursor", description = "nextCursor from the previous page"),
+                    @OpenApiParam(name = "limit", type = Integer.class, description = "Page size, 1-500 (default 50)")
+            },
+            responses = @OpenApiResponse(status = "200", content = @OpenApiContent(from = ArtifactListResponse.class))
+    )
+    public void listArtifacts(Context ctx) {
+        long start = System.nanoTime();
+        try {
+            respond(ctx, blankToNull(ctx.queryParam("owner")));
+        } finally {
+            listLatency.recordSince(start);
+        }
+    }
+
+    @OpenApi(
+            path = "/artifacts/owner/{player}",
+            methods = HttpMethod.GET,
+            summary = "List a player's artifacts",
+            description = "Lists the indexed artifacts owned by a player, optionally filtered by type and pathway",
+            tags = {"Reporter"},
+            pathParams = @OpenApiParam(name = "player", description = "Owner as stored in the artifact files"),
+            queryParams = {
+                    @OpenApiParam(name = "type", description = "Artifact type (case-insensitive)"),
+                    @OpenApiParam(name = "pathway", description = "Pathway (case-insensitive)"),
+                    @OpenApiParam(name = "cursor", description = "nextCursor from the previous page"),
+                    @OpenApiParam(name = "limit", type = Integer.class, description = "Page size, 1-500 (default 50)")
+            },
+            responses = @OpenApiResponse(status = "200", content = @OpenApiContent(from = ArtifactListResponse.class))
+    )
+    public void listOwnerArtifacts(Context ctx) {
+        long start = System.nanoTime();
+        try {
+            respond(ctx, ctx.pathParam("player"));
+        } finally {
+            ownerLatency.recordSince(start);
+        }
+    }
+
+    @OpenApi(
+            path = "/artifacts/{id}",
+            methods = HttpMethod.GET,
+            summary = "Get indexed artifact fields",
+            description = "Returns an artifact's indexed owner, type and pathway; use /artifact/{id} for the whole file",
+            tags = {"Reporter"},
+            pathParams = @OpenApiParam(name = "id", description = "Artifact ID"),
+            responses = @OpenApiResponse(status = "200", content = @OpenApiContent(from = ArtifactSummaryResponse.class))
+    )
+    public void getArtifactSummary(Context ctx) {
+        long start = System.nanoTime();
+        try {
+            String artifactId = ctx.pathParam("id");
+            ArtifactIndex.Entry entry = withIndex(() -> index.get(FileReaderUtil.sanitizeArtifactId(artifactId)));
+            if (entry == null) {
+                ctx.json(BridgeApiResponse.success(ArtifactSummaryResponse.builder()
+                        .artifactId(artifactId)
+                        .found(false)
+                        .build()));
+                return;
+            }
+            ctx.json(BridgeApiResponse.success(toSummary(entry)));
+        } finally {
+            summaryLatency.recordSince(start);
+        }
+    }
+
+    private void respond(Context ctx, String owner) {
+        Integer limit = parseInt(ctx, "limit");
+        ArtifactIndex.Query query = new ArtifactIndex.Query(
+                owner,
+                blankToNull(ctx.queryParam("type")),
+                blankToNull(ctx.queryParam("pathway")),
+                blankToNull(ctx.queryParam("cursor")),
+                limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT)
+        );
+
+        ArtifactIndex.Page page;
+        try {
+            page = withIndex(() -> index.query(query));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestResponse(e.getMessage());
+        }
+
+        List<ArtifactSummaryResponse> artifacts = new ArrayList<>(page.artifacts().size());
+        for (ArtifactIndex.Entry entry : page.artifacts()) {
+            artifacts.add(toSummary(entry));
+        }
+
+        ctx.json(BridgeApiResponse.success(ArtifactListResponse.builder()
+                .amount(artifacts.size())
+                .total(page.total())
+                .nextCursor(page.nextCursor())
+                .indexedAt(index.getBuiltAt())
+                .artifacts(artifacts)
+                .build()));
+    }
+
+    private static <T> T withIndex(Supplier<T> lookup) {
+        try {
+            return lookup.get();
+        } catch (IllegalStateException e) {
+            throw new ServiceUnavailableResponse(e.getMessage());
+        }
+    }
+
+    private static ArtifactSummaryResponse toSummary(ArtifactIndex.Entry entry) {
+        return ArtifactSummaryResponse.builder()
+                .artifactId(entry.id())
+                .owner(entry.owner())
+                .type(entry.type())
+                .pathway(entry.pathway())
+                .modified(entry.modified())
+                .found(true)
+                .build();
+    }
+
+    private static Integer parseInt(Context ctx, String name) {
+        String value = blankToNull(ctx.queryParam(name));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestResponse(name + " must be a number");
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -5,11 +5,22 @@ import dev.ua.ikeepcalm.catwalk.bridge.annotations.BridgePathParam;
 import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
 import io.javalin.openapi.HttpMethod;
 import io.javalin.openapi.OpenApi;
+import net.mysterria.reporter.manager.FileCacheManager;
+import net.mysterria.reporter.manager.LatencyHistogram;
+import net.mysterria.reporter.manager.ReporterMetrics;
 import net.mysterria.reporter.model.BeyonderDataResponse;
 import net.mysterria.reporter.util.FileReaderUtil;
 
 public class BeyonderDataEndpoint {
 
+    private final FileCacheManager fileCache;
+    private final LatencyHistogram latency;
+
+    public BeyonderDataEndpoint(FileCacheManager fileCache, ReporterMetrics metrics) {
+        this.fileCache = fileCache;
+        this.latency = metrics.endpoint("beyonder_data");
+    }
+
     @OpenApi(
             path = "/beyonder/{player}",
             methods = HttpMethod.GET,
@@ -19,23 +30,28 @@ public class BeyonderDataEndpoint {
     )
     @BridgeEventHandler(description = "Get beyonder's raw data file", logRequests = true)
     public BridgeApiResponse<BeyonderDataResponse> getBeyonderData(@BridgePathParam("player") String playerName) {
-        String sanitizedName = FileReaderUtil.sanitizePlayerName(playerName);
-        String filePath = "plugins/CircleOfImagination/data/beyonders/" + sanitizedName + ".yml";
+        long start = System.nanoTime();
+        try {
+            String sanitizedName = FileReaderUtil.sanitizePlayerName(playerName);
+            String filePath = "plugins/CircleOfImagination/data/beyonders/" + sanitizedName + ".yml";
 
-        String fileContent = FileReaderUtil.readYamlFile(filePath);
+            String fileContent = fileCache.readYamlFile(filePath);
+
+            if (fileContent == null) {
+                return BridgeApiResponse.success(BeyonderDataResponse.builder()
+                        .player(playerName)
+                        .data(null)
+                        .found(false)
+                        .build());
+            }
 
-        if (fileContent == null) {
             return BridgeApiResponse.success(BeyonderDataResponse.builder()
                     .player(playerName)
-                    .data(null)
-                    .found(false)
+                    .data(fileContent)
+                    .found(true)
                     .build());
+        } finally {
+            latency.recordSince(start);
         }
-
-        return BridgeApiResponse.success(BeyonderDataResponse.builder()
-                .player(playerName)
-                .data(fileContent)
-                .found(true)
-                .build());
     }
 }
@@ -0,0 +1,118 @@
+package net.mysterria.reporter.api;
+
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import io.javalin.http.Header;
+import io.javalin.http.ServiceUnavailableResponse;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import io.javalin.openapi.OpenApiParam;
+import jakarta.servlet.http.HttpServletResponse;
+import net.mysterria.reporter.manager.BeyonderExporter;
+import net.mysterria.reporter.manager.LatencyHistogram;
+import net.mysterria.reporter.manager.ReporterMetrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+public class BeyonderExportEndpoint {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final BeyonderExporter exporter;
+    private final LatencyHistogram latency;
+
+    public BeyonderExportEndpoint(BeyonderExporter exporter, ReporterMetrics metrics) {
+        this.exporter = exporter;
+        this.latency = metrics.endpoint("beyonder_export");
+    }
+
+    @OpenApi(
+            path = "/export/beyonders",
+            methods = HttpMethod.GET,
+            summary = "Export all beyonder data files",
+            description = "Streams every beyonder data file as newline-delimited JSON, one object per file with " +
+                          "player, modified (epoch millis) and data. Records arrive in completion order. " +
+                          "The response is gzip-compressed when the client sends Accept-Encoding: gzip",
+            tags = {"Reporter"},
+            queryParams = {
+                    @OpenApiParam(name = "since", description = "Only files modified at or after this time: epoch millis or ISO instant"),
+                    @OpenApiParam(name = "format", description = "raw (YAML string, default) or structured (YAML parsed into JSON)")
+            }
+    )
+    public void exportBeyonders(Context ctx) throws IOException {
+        long start = System.nanoTime();
+        try {
+            long since = parseSince(ctx.queryParam("since"));
+            boolean structured = parseStructured(ctx.queryParam("format"));
+            boolean gzip = acceptsGzip(ctx.header(Header.ACCEPT_ENCODING));
+
+            if (!exporter.tryAcquire()) {
+                throw new ServiceUnavailableResponse("Too many exports running, try again later");
+            }
+
+            try {
+                HttpServletResponse response = ctx.res();
+                response.setStatus(200);
+                response.setContentType("application/x-ndjson");
+                response.setCharacterEncoding("UTF-8");
+                response.setHeader(Header.CACHE_CONTROL, "no-store");
+                if (gzip) {
+                    response.setHeader(Header.CONTENT_ENCODING, "gzip");
+                    response.setHeader(Header.VARY, Header.ACCEPT_ENCODING);
+                }
+
+                OutputStream out = response.getOutputStream();
+                if (gzip) {
+                    try (GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE)) {
+                        exporter.export(compressed, since, structured);
+                    }
+                } else {
+                    exporter.export(out, since, structured);
+                }
+            } catch (BeyonderExporter.ExportCancelledException ignored) {
+                // Logged by the exporter; the stream already ends with an error record
+            } catch (IOException ignored) {
+                // Client disconnected
+            } finally {
+                exporter.release();
+            }
+        } finally {
+            latency.recordSince(start);
+        }
+    }
+
+    private static long parseSince(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        String trimmed = value.trim();
+        try {
+            return Long.parseLong(trimmed);
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            return Instant.parse(trimmed).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            throw new BadRequestResponse("since must be epoch millis or an ISO instant");
+        }
+    }
+
+    private static boolean parseStructured(String format) {
+        if (format == null || format.isBlank() || format.equalsIgnoreCase("raw")) {
+            return false;
+        }
+        if (format.equalsIgnoreCase("structured")) {
+            return true;
+        }
+        throw new BadRequestResponse("format must be raw or structured");
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+}
@@ -0,0 +1,252 @@
+package net.mysterria.reporter.api;
+
+import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import io.javalin.openapi.OpenApiContent;
+import io.javalin.openapi.OpenApiParam;
+import io.javalin.openapi.OpenApiResponse;
+import net.mysterria.reporter.manager.LatencyHistogram;
+import net.mysterria.reporter.manager.LogFlushCoordinator;
+import net.mysterria.reporter.manager.LogSearchManager;
+import net.mysterria.reporter.manager.ReporterMetrics;
+import net.mysterria.reporter.model.BeyonderLogSearchResponse;
+import net.mysterria.reporter.util.FileReaderUtil;
+import net.mysterria.reporter.util.LogTimestampParser;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+public class BeyonderLogSearchEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_PATTERN_LENGTH = 200;
+
+    private final LogSearchManager searchManager;
+    private final LogFlushCoordinator flushCoordinator;
+    private final int maxResults;
+    private final long regexBudgetNanos;
+    private final LatencyHistogram latency;
+
+    /**
+     * @param regexTimeoutMillis Time all regex matching of one search may take before it is rejected
+     */
+    public BeyonderLogSearchEndpoint(LogSearchManager searchManager, LogFlushCoordinator flushCoordinator,
+                                     int maxResults, long regexTimeoutMillis, ReporterMetrics metrics) {
+        this.searchManager = searchManager;
+        this.flushCoordinator = flushCoordinator;
+        this.maxResults = Math.max(1, maxResults);
+        this.regexBudgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, regexTimeoutMillis));
+        this.latency = metrics.endpoint("beyonder_log_search");
+    }
+
+    @OpenApi(
+            path = "/beyonder/search/{player}",
+            methods = HttpMethod.GET,
+            summary = "Search beyonder activity logs",
+            description = "Returns log lines within a time range, optionally filtered by text or a regular expression. " +
+                          "The start of the range is located through a sparse timestamp index, so only the requested " +
+                          "range is read. If hasMore is true, pass the cursor back with the same parameters to continue",
+            tags = {"Reporter"},
+            pathParams = @OpenApiParam(name = "player", description = "Player's username"),
+            queryParams = {
+                    @OpenApiParam(name = "from", description = "Range start: epoch millis, ISO date-time or the log's timestamp format"),
+                    @OpenApiParam(name = "to", description = "Range end (inclusive), same formats as from"),
+                    @OpenApiParam(name = "q", description = "Case-insensitive text the line must contain"),
+                    @OpenApiParam(name = "regex", description = "Regular expression the line must contain a match of"),
+                    @OpenApiParam(name = "limit", type = Integer.class, description = "Maximum lines to return (default 100)"),
+                    @OpenApiParam(name = "cursor", description = "Cursor from a previous response to continue the search")
+            },
+            responses = @OpenApiResponse(status = "200", content = @OpenApiContent(from = BeyonderLogSearchResponse.class))
+    )
+    public void searchLogs(Context ctx) {
+        long start = System.nanoTime();
+        try {
+            String playerName = ctx.pathParam("player");
+            String sanitizedName = FileReaderUtil.sanitizePlayerName(playerName);
+
+            LogTimestampParser timestamps = searchManager.getTimestampParser();
+            long from = parseTime(ctx.queryParam("from"), "from", timestamps);
+            long to = parseTime(ctx.queryParam("to"), "to", timestamps);
+            if (from != LogTimestampParser.NONE && to != LogTimestampParser.NONE && from > to) {
+                throw new BadRequestResponse("from must not be after to");
+            }
+
+            LogSearchManager.Query query = new LogSearchManager.Query(from, to,
+                    parseFilter(ctx.queryParam("q"), ctx.queryParam("regex"), regexBudgetNanos),
+                    ctx.queryParam("cursor"), parseLimit(ctx.queryParam("limit")));
+
+            flushCoordinator.awaitFlush(sanitizedName);
+            LogSearchManager.Result result;
+            try {
+                result = searchManager.search(sanitizedName, query);
+            } catch (RegexTimeoutException e) {
+                throw new BadRequestResponse("regex took too long to evaluate; simplify it or narrow from and to");
+            }
+
+            ctx.json(BridgeApiResponse.success(BeyonderLogSearchResponse.builder()
+                    .player(playerName)
+                    .from(ctx.queryParam("from"))
+                    .to(ctx.queryParam("to"))
+                    .returned(result.lines().size())
+                    .lines(result.lines())
+                    .found(result.found())
+                    .hasMore(result.cursor() != null)
+                    .cursor(result.cursor())
+                    .scannedBytes(result.scannedBytes())
+                    .build()));
+        } finally {
+            latency.recordSince(start);
+        }
+    }
+
+    private int parseLimit(String value) {
+        if (value == null || value.isBlank()) {
+            return Math.min(DEFAULT_LIMIT, maxResults);
+        }
+        try {
+            return Math.min(Math.max(Integer.parseInt(value.trim()), 1), maxResults);
+        } catch (NumberFormatException e) {
+            throw new BadRequestResponse("limit must be a number");
+        }
+    }
+
+    /**
+     * Accepts epoch millis (interpreted in the server's zone, like the log itself), an ISO local date-time
+     * or a timestamp in the log's own format
+     */
+    private static long parseTime(String value, String name, LogTimestampParser timestamps) {
+        if (value == null || value.isBlank()) {
+            return LogTimestampParser.NONE;
+        }
+        String trimmed = value.trim();
+
+        if (trimmed.chars().allMatch(Character::isDigit)) {
+            try {
+                LocalDateTime local = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(trimmed)), ZoneId.systemDefault());
+                return LogTimestampParser.toKey(local);
+            } catch (NumberFormatException | DateTimeException e) {
+                throw new BadRequestResponse(name + " is out of range");
+            }
+        }
+
+        try {
+            return LogTimestampParser.toKey(LocalDateTime.parse(trimmed));
+        } catch (DateTimeParseException ignored) {
+        }
+
+        long parsed = timestamps.parseValue(trimmed);
+        if (parsed == LogTimestampParser.NONE) {
+            throw new BadRequestResponse(name + " must be epoch millis, an ISO date-time or match the log timestamp format");
+        }
+        return parsed;
+    }
+
+    private static Predicate<String> parseFilter(String text, String regex, long budgetNanos) {
+        if (regex != null && !regex.isEmpty()) {
+            if (text != null && !text.isEmpty()) {
+                throw new BadRequestResponse("Use either q or regex, not both");
+            }
+            if (regex.length() > MAX_PATTERN_LENGTH) {
+                throw new BadRequestResponse("regex must be at most " + MAX_PATTERN_LENGTH + " characters");
+            }
+            try {
+                return new BoundedRegex(Pattern.compile(regex), budgetNanos);
+            } catch (PatternSyntaxException e) {
+                throw new BadRequestResponse("Invalid regex: " + e.getDescription());
+            }
+        }
+
+        if (text != null && !text.isEmpty()) {
+            String needle = text.toLowerCase(Locale.ROOT);
+            return line -> line.toLowerCase(Locale.ROOT).contains(needle);
+        }
+        return null;
+    }
+
+    /**
+     * Regex filter with a time budget shared by every line of one search, so a pattern that backtracks
+     * catastrophically is cut off instead of occupying a request thread for the whole scan
+     */
+    private static final class BoundedRegex implements Predicate<String> {
+
+        private final Pattern pattern;
+        private final long budgetNanos;
+        private long deadline;
+
+        private BoundedRegex(Pattern pattern, long budgetNanos) {
+            this.pattern = pattern;
+            this.budgetNanos = budgetNanos;
+        }
+
+        @Override
+        public boolean test(String line) {
+            if (deadline == 0) {
+                // The budget covers matching only, not the flush wait before the scan starts
+                deadline = System.nanoTime() + budgetNanos;
+            }
+            return pattern.matcher(new DeadlineCharSequence(line, deadline)).find();
+        }
+    }
+
+    /**
+     * Line view that fails once the deadline has passed; the matcher reads every character through charAt,
+     * so this also stops a single line that backtracks forever
+     */
+    private static final class DeadlineCharSequence implements CharSequence {
+
+        private static final int CHECK_INTERVAL = 1024;
+
+        private final CharSequence text;
+        private final long deadline;
+        private int reads;
+
+        private DeadlineCharSequence(CharSequence text, long deadline) {
+            this.text = text;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (++reads == CHECK_INTERVAL) {
+                reads = 0;
+                if (System.nanoTime() - deadline > 0 || Thread.currentThread().isInterrupted()) {
+                    throw new RegexTimeoutException();
+                }
+            }
+            return text.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new DeadlineCharSequence(text.subSequence(start, end), deadline);
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+
+    private static final class RegexTimeoutException extends RuntimeException {
+
+        private RegexTimeoutException() {
+            super("Regex evaluation exceeded its time budget", null, false, false);
+        }
+    }
+}
@@ -5,64 +5,93 @@ import dev.ua.ikeepcalm.catwalk.bridge.annotations.BridgePathParam;
 import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
 import io.javalin.openapi.HttpMethod;
 import io.javalin.openapi.OpenApi;
-import net.mysterria.reporter.MysterriaReporter;
+import net.mysterria.reporter.manager.LatencyHistogram;
+import net.mysterria.reporter.manager.LogFlushCoordinator;
+import net.mysterria.reporter.manager.ReporterMetrics;
 import net.mysterria.reporter.model.BeyonderLogsResponse;
 import net.mysterria.reporter.util.FileReaderUtil;
-import org.bukkit.Bukkit;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.Collections;
-import java.util.List;
 
 public class BeyonderLogsEndpoint {
 
+    private final LogFlushCoordinator flushCoordinator;
+    private final LatencyHistogram latency;
+
+    public BeyonderLogsEndpoint(LogFlushCoordinator flushCoordinator, ReporterMetrics metrics) {
+        this.flushCoordinator = flushCoordinator;
+        this.latency = metrics.endpoint("beyonder_logs");
+    }
+
     @OpenApi(
             path = "/beyonder/logs/{player}/{amount}",
             methods = HttpMethod.GET,
             summary = "Get beyonder activity logs",
-            description = "Returns the last N lines from a beyonder's activity log file",
+            description = "Returns the last N lines from a beyonder's activity log, continuing into rotated and gzip-compressed " +
+                          "archives when the live file holds fewer, with a cursor to poll for newer lines",
             tags = {"Reporter"}
     )
     @BridgeEventHandler(description = "Get beyonder's activity logs", logRequests = true)
     public BridgeApiResponse<BeyonderLogsResponse> getBeyonderLogs(
             @BridgePathParam("player") String playerName,
             @BridgePathParam("amount") String amountStr) {
+        return readLogs(playerName, amountStr, null);
+    }
 
-        String sanitizedName = FileReaderUtil.sanitizePlayerName(playerName);
-        int amount;
+    @OpenApi(
+            path = "/beyonder/logs/{player}/{amount}/{cursor}",
+            methods = HttpMethod.GET,
+            summary = "Get new beyonder activity logs",
+            description = "Returns up to N lines appended after the given cursor. If the log was rotated or truncated " +
+                          "the last N lines are returned instead and reset is true",
+            tags = {"Reporter"}
+    )
+    @BridgeEventHandler(description = "Get beyonder's activity logs since a cursor", logRequests = true)
+    public BridgeApiResponse<BeyonderLogsResponse> getBeyonderLogsSince(
+            @BridgePathParam("player") String playerName,
+            @BridgePathParam("amount") String amountStr,
+            @BridgePathParam("cursor") String cursor) {
+        return readLogs(playerName, amountStr, cursor);
+    }
 
+    private BridgeApiResponse<BeyonderLogsResponse> readLogs(String playerName, String amountStr, String cursor) {
+        long start = System.nanoTime();
         try {
-            amount = Integer.parseInt(amountStr);
-            if (amount <= 0 || amount > 10000) {
-                amount = Math.min(Math.max(amount, 1), 10000);
+            String sanitizedName = FileReaderUtil.sanitizePlayerName(playerName);
+            int amount;
+
+            try {
+                amount = Integer.parseInt(amountStr);
+                if (amount <= 0 || amount > 10000) {
+                    amount = Math.min(Math.max(amount, 1), 10000);
+                }
+            } catch (NumberFormatException e) {
+                return BridgeApiResponse.success(BeyonderLogsResponse.builder()
+                        .player(playerName)
+                        .requested(0)
+                        .returned(0)
+                        .logs(Collections.emptyList())
+                        .found(false)
+                        .cursor(cursor)
+                        .build());
             }
-        } catch (NumberFormatException e) {
+
+            flushCoordinator.awaitFlush(sanitizedName);
+
+            String filePath = "plugins/CircleOfImagination/logs/" + sanitizedName + ".log";
+            FileReaderUtil.LogChunk chunk = FileReaderUtil.readLinesSinceWithArchives(filePath, cursor, amount);
+
             return BridgeApiResponse.success(BeyonderLogsResponse.builder()
                     .player(playerName)
-                    .requested(0)
-                    .returned(0)
-                    .logs(Collections.emptyList())
-                    .found(false)
+                    .requested(amount)
+                    .returned(chunk.lines().size())
+                    .logs(chunk.lines())
+                    .found(!chunk.lines().isEmpty())
+                    .cursor(chunk.cursor())
+                    .reset(chunk.reset())
                     .build());
+        } finally {
+            latency.recordSince(start);
         }
-
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                Bukkit.getServer().dispatchCommand(Bukkit.getConsoleSender(), "coi flush " + sanitizedName);
-
-            }
-        }.runTask(MysterriaReporter.getInstance());
-
-        String filePath = "plugins/CircleOfImagination/logs/" + sanitizedName + ".log";
-        List<String> logLines = FileReaderUtil.readLastLines(filePath, amount);
-
-        return BridgeApiResponse.success(BeyonderLogsResponse.builder()
-                .player(playerName)
-                .requested(amount)
-                .returned(logLines.size())
-                .logs(logLines)
-                .found(!logLines.isEmpty())
-                .build());
     }
 }
@@ -0,0 +1,150 @@
+package net.mysterria.reporter.api;
+
+import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
+import io.javalin.http.Context;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import io.javalin.openapi.OpenApiContent;
+import io.javalin.openapi.OpenApiParam;
+import io.javalin.openapi.OpenApiResponse;
+import net.mysterria.reporter.manager.FileCacheManager;
+import net.mysterria.reporter.manager.LatencyHistogram;
+import net.mysterria.reporter.manager.ReporterMetrics;
+import net.mysterria.reporter.model.BeyonderStructuredResponse;
+import net.mysterria.reporter.util.FileReaderUtil;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class BeyonderStructuredEndpoint {
+
+    private static final Object MISSING = new Object();
+
+    private final FileCacheManager fileCache;
+    private final LatencyHistogram latency;
+
+    public BeyonderStructuredEndpoint(FileCacheManager fileCache, ReporterMetrics metrics) {
+        this.fileCache = fileCache;
+        this.latency = metrics.endpoint("beyonder_structured");
+    }
+
+    @OpenApi(
+            path = "/beyonder/structured/{player}",
+            methods = HttpMethod.GET,
+            summary = "Get beyonder data as JSON",
+            description = "Returns a beyonder's data file parsed into JSON, optionally limited to the requested fields",
+            tags = {"Reporter"},
+            pathParams = @OpenApiParam(name = "player", description = "Player's username"),
+            queryParams = @OpenApiParam(name = "fields", description = "Comma-separated dotted paths to include, e.g. pathways.sun.sequence,name"),
+            responses = @OpenApiResponse(status = "200", content = @OpenApiContent(from = BeyonderStructuredResponse.class))
+    )
+    public void getStructuredData(Context ctx) {
+        long start = System.nanoTime();
+        try {
+            String playerName = ctx.pathParam("player");
+            String sanitizedName = FileReaderUtil.sanitizePlayerName(playerName);
+            String filePath = "plugins/CircleOfImagination/data/beyonders/" + sanitizedName + ".yml";
+
+            Object tree = fileCache.readYamlTree(filePath);
+            if (!(tree instanceof Map<?, ?> document)) {
+                ctx.json(BridgeApiResponse.success(BeyonderStructuredResponse.builder()
+                        .player(playerName)
+                        .data(null)
+                        .found(false)
+                        .build()));
+                return;
+            }
+
+            ctx.json(BridgeApiResponse.success(BeyonderStructuredResponse.builder()
+                    .player(playerName)
+                    .data(project(document, ctx.queryParam("fields")))
+                    .found(true)
+                    .build()));
+        } finally {
+            latency.recordSince(start);
+        }
+    }
+
+    /**
+     * Copies only the requested dotted paths out of the parsed document; the cached tree itself is never modified
+     */
+    private static Map<String, Object> project(Map<?, ?> document, String fields) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (fields == null || fields.isBlank()) {
+            document.forEach((key, value) -> result.put(String.valueOf(key), value));
+            return result;
+        }
+
+        // Maps built by put; any other map in the result belongs to the cached tree and is copied before being added to
+        Set<Object> created = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String field : fields.split(",")) {
+            String[] path = field.trim().split("\\.");
+            if (path.length == 0 || path[0].isEmpty()) {
+                continue;
+            }
+
+            Object value = resolve(document, path);
+            if (value != MISSING) {
+                put(result, path, value, created);
+            }
+        }
+        return result;
+    }
+
+    private static Object resolve(Map<?, ?> document, String[] path) {
+        Object current = document;
+        for (String segment : path) {
+            if (current instanceof Map<?, ?> map) {
+                current = lookup(map, segment);
+            } else if (current instanceof List<?> list && segment.matches("\\d{1,9}")) {
+                int index = Integer.parseInt(segment);
+                if (index >= list.size()) {
+                    return MISSING;
+                }
+                current = list.get(index);
+            } else {
+                return MISSING;
+            }
+            if (current == MISSING) {
+                return MISSING;
+            }
+        }
+        return current;
+    }
+
+    private static Object lookup(Map<?, ?> map, String key) {
+        if (map.containsKey(key)) {
+            return map.get(key);
+        }
+        // YAML keys are not always strings (e.g. numeric sequence keys)
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (String.valueOf(entry.getKey()).equals(key)) {
+                return entry.getValue();
+            }
+        }
+        return MISSING;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> target, String[] path, Object value, Set<Object> created) {
+        Map<String, Object> current = target;
+        for (int i = 0; i < path.length - 1; i++) {
+            Object child = current.get(path[i]);
+            if (!created.contains(child)) {
+                Map<String, Object> copy = new LinkedHashMap<>();
+                if (child instanceof Map<?, ?> cached) {
+                    cached.forEach((key, nested) -> copy.put(String.valueOf(key), nested));
+                }
+                created.add(copy);
+                current.put(path[i], copy);
+                child = copy;
+            }
+            current = (Map<String, Object>) child;
+        }
+        current.put(path[path.length - 1], value);
+    }
+}
@@ -1,30 +1,68 @@
 package net.mysterria.reporter.api;
 
-import dev.ua.ikeepcalm.catwalk.bridge.annotations.BridgeEventHandler;
-import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
+import io.javalin.http.Context;
+import io.javalin.http.Header;
+import io.javalin.http.HttpStatus;
 import io.javalin.openapi.HttpMethod;
 import io.javalin.openapi.OpenApi;
+import io.javalin.openapi.OpenApiContent;
+import io.javalin.openapi.OpenApiParam;
+import io.javalin.openapi.OpenApiResponse;
+import net.mysterria.reporter.manager.LatencyHistogram;
 import net.mysterria.reporter.manager.PathwayCacheManager;
+import net.mysterria.reporter.manager.ReporterMetrics;
+import net.mysterria.reporter.manager.SerializedPayload;
 import net.mysterria.reporter.model.EveryonePathwayResponse;
 
 public class EveryonePathwayEndpoint {
 
     private final PathwayCacheManager cacheManager;
+    private final LatencyHistogram latency;
 
-    public EveryonePathwayEndpoint(PathwayCacheManager cacheManager) {
+    public EveryonePathwayEndpoint(PathwayCacheManager cacheManager, ReporterMetrics metrics) {
         this.cacheManager = cacheManager;
+        this.latency = metrics.endpoint("everyone_pathway");
     }
 
     @OpenApi(
             path = "/pathway/everyone",
             methods = HttpMethod.GET,
             summary = "Get all beyonders pathways",
-            description = "Reports pathway, sequence and acting progress for all beyonders",
-            tags = {"Reporter"}
+            description = "Reports pathway, sequence and acting progress for all beyonders. " +
+                          "The body is serialized once per refresh and supports ETag/If-None-Match and gzip.",
+            tags = {"Reporter"},
+            headers = {@OpenApiParam(name = "If-None-Match", description = "ETag of a previously received response")},
+            responses = {
+                    @OpenApiResponse(status = "200", content = @OpenApiContent(from = EveryonePathwayResponse.class)),
+                    @OpenApiResponse(status = "304", description = "Snapshot unchanged since the given ETag")
+            }
     )
-    @BridgeEventHandler(requiresAuth = false, description = "Get all beyonders primary pathways", logRequests = true)
-    public BridgeApiResponse<EveryonePathwayResponse> getEveryonePathway() {
-        EveryonePathwayResponse response = cacheManager.getEveryonePathways();
-        return BridgeApiResponse.success(response);
+    public void getEveryonePathway(Context ctx) {
+        long start = System.nanoTime();
+        try {
+            SerializedPayload payload = cacheManager.getEveryonePayload();
+
+            ctx.header(Header.ETAG, payload.etag());
+            ctx.header(Header.CACHE_CONTROL, "no-cache");
+            ctx.header(Header.VARY, Header.ACCEPT_ENCODING);
+
+            if (payload.matches(ctx.header(Header.IF_NONE_MATCH))) {
+                ctx.status(HttpStatus.NOT_MODIFIED);
+                return;
+            }
+
+            ctx.contentType("application/json");
+            String acceptEncoding = ctx.header(Header.ACCEPT_ENCODING);
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                ctx.header(Header.CONTENT_ENCODING, "gzip");
+                ctx.header(Header.CONTENT_LENGTH, String.valueOf(payload.gzipLength()));
+                ctx.result(payload.gzipStream());
+            } else {
+                ctx.header(Header.CONTENT_LENGTH, String.valueOf(payload.jsonLength()));
+                ctx.result(payload.jsonStream());
+            }
+        } finally {
+            latency.recordSince(start);
+        }
     }
-}
\ No newline at end of file
+}
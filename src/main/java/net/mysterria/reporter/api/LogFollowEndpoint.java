@@ -0,0 +1,110 @@
+package net.mysterria.reporter.api;
+
+import io.javalin.http.Context;
+import io.javalin.http.Header;
+import io.javalin.http.ServiceUnavailableResponse;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import io.javalin.openapi.OpenApiParam;
+import jakarta.servlet.http.HttpServletResponse;
+import net.mysterria.reporter.manager.LogFollowManager;
+import net.mysterria.reporter.util.FileReaderUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+public class LogFollowEndpoint {
+
+    private static final int DEFAULT_BACKLOG = 50;
+    private static final int MAX_BACKLOG = 1000;
+
+    private final LogFollowManager followManager;
+    private final long heartbeatSeconds;
+
+    public LogFollowEndpoint(LogFollowManager followManager, long heartbeatSeconds) {
+        this.followManager = followManager;
+        this.heartbeatSeconds = Math.max(1, heartbeatSeconds);
+    }
+
+    @OpenApi(
+            path = "/beyonder/follow/{player}",
+            methods = HttpMethod.GET,
+            summary = "Follow beyonder activity logs",
+            description = "Streams lines appended to a beyonder's activity log as Server-Sent Events. " +
+                          "Each event id is a log cursor; reconnecting with Last-Event-ID resumes after it",
+            tags = {"Reporter"},
+            pathParams = @OpenApiParam(name = "player", description = "Player's username"),
+            queryParams = @OpenApiParam(name = "backlog", type = Integer.class, description = "Lines to send before live lines (default 50)"),
+            headers = @OpenApiParam(name = "Last-Event-ID", description = "Cursor of the last event received")
+    )
+    public void followLogs(Context ctx) throws IOException {
+        String sanitizedName = FileReaderUtil.sanitizePlayerName(ctx.pathParam("player"));
+        int backlog = parseBacklog(ctx.queryParam("backlog"));
+
+        LogFollowManager.Subscription subscription = followManager.subscribe(sanitizedName, ctx.header("Last-Event-ID"), backlog);
+        if (subscription == null) {
+            throw new ServiceUnavailableResponse("Too many log followers, try again later");
+        }
+
+        HttpServletResponse response = ctx.res();
+        response.setStatus(200);
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(Header.CACHE_CONTROL, "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+
+        try (subscription) {
+            OutputStream out = response.getOutputStream();
+            out.write(("retry: 3000\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+
+            while (subscription.isActive()) {
+                LogFollowManager.LogEvent event = subscription.poll(heartbeatSeconds, TimeUnit.SECONDS);
+                if (event == null) {
+                    out.write(": keep-alive\n\n".getBytes(StandardCharsets.UTF_8));
+                } else {
+                    out.write(formatEvent(event));
+                }
+                out.flush();
+            }
+
+            if (subscription.isOverflowed()) {
+                out.write("event: overflow\ndata: client too slow, reconnect to resume\n\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ignored) {
+            // Client disconnected
+        }
+    }
+
+    private static byte[] formatEvent(LogFollowManager.LogEvent event) {
+        StringBuilder builder = new StringBuilder();
+        if (event.cursor() != null) {
+            builder.append("id: ").append(event.cursor()).append('\n');
+        }
+        builder.append("event: ").append(event.reset() ? "reset" : "lines").append('\n');
+        if (event.lines().isEmpty()) {
+            builder.append("data:\n");
+        }
+        for (String line : event.lines()) {
+            builder.append("data: ").append(line.replace('\r', ' ')).append('\n');
+        }
+        builder.append('\n');
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int parseBacklog(String value) {
+        if (value == null) {
+            return DEFAULT_BACKLOG;
+        }
+        try {
+            return Math.min(Math.max(Integer.parseInt(value), 0), MAX_BACKLOG);
+        } catch (NumberFormatException e) {
+            return DEFAULT_BACKLOG;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package net.mysterria.reporter.api;
+
+import io.javalin.http.Context;
+import io.javalin.http.Header;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import net.mysterria.reporter.manager.ReporterMetrics;
+
+public class MetricsEndpoint {
+
+    private final ReporterMetrics metrics;
+
+    public MetricsEndpoint(ReporterMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @OpenApi(
+            path = "/reporter/metrics",
+            methods = HttpMethod.GET,
+            summary = "Get reporter metrics",
+            description = "Endpoint latencies, cache hit ratios, refresh timings and file read volume in Prometheus text format",
+            tags = {"Reporter"}
+    )
+    public void getMetrics(Context ctx) {
+        ctx.header(Header.CACHE_CONTROL, "no-cache");
+        ctx.contentType("text/plain; version=0.0.4; charset=utf-8");
+        ctx.result(metrics.renderPrometheus());
+    }
+}
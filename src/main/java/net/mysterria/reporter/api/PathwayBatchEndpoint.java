@@ -0,0 +1,97 @@
+package net.mysterria.reporter.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import io.javalin.openapi.OpenApiContent;
+import io.javalin.openapi.OpenApiRequestBody;
+import io.javalin.openapi.OpenApiResponse;
+import net.mysterria.reporter.manager.LatencyHistogram;
+import net.mysterria.reporter.manager.PathwayCacheManager;
+import net.mysterria.reporter.manager.ReporterMetrics;
+import net.mysterria.reporter.model.PathwayBatchRequest;
+import net.mysterria.reporter.model.PathwayBatchResponse;
+import net.mysterria.reporter.model.PlayerPathwayResponse;
+import net.mysterria.reporter.util.JsonUtil;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class PathwayBatchEndpoint {
+
+    private static final int MAX_PLAYERS = 500;
+
+    private final PathwayCacheManager cacheManager;
+    private final LatencyHistogram latency;
+
+    public PathwayBatchEndpoint(PathwayCacheManager cacheManager, ReporterMetrics metrics) {
+        this.cacheManager = cacheManager;
+        this.latency = metrics.endpoint("pathway_batch");
+    }
+
+    @OpenApi(
+            path = "/pathway/batch",
+            methods = HttpMethod.POST,
+            summary = "Get pathways of several players",
+            description = "Reports pathway, sequence and acting progress for up to 500 players in one request",
+            tags = {"Reporter"},
+            requestBody = @OpenApiRequestBody(content = @OpenApiContent(from = PathwayBatchRequest.class)),
+            responses = @OpenApiResponse(status = "200", content = @OpenApiContent(from = PathwayBatchResponse.class))
+    )
+    public void getPathways(Context ctx) {
+        long start = System.nanoTime();
+        try {
+            PathwayBatchRequest request;
+            try {
+                request = JsonUtil.getMapper().readValue(ctx.body(), PathwayBatchRequest.class);
+            } catch (JsonProcessingException e) {
+                request = null;
+            }
+            // A literal null body parses without error but is just as unusable
+            if (request == null) {
+                throw new BadRequestResponse("Body must be {\"players\": [\"name\", ...]}");
+            }
+
+            Set<String> playerNames = new LinkedHashSet<>();
+            if (request.getPlayers() != null) {
+                for (String playerName : request.getPlayers()) {
+                    if (playerName != null && !playerName.isBlank()) {
+                        playerNames.add(playerName.trim());
+                    }
+                }
+            }
+            if (playerNames.size() > MAX_PLAYERS) {
+                throw new BadRequestResponse("At most " + MAX_PLAYERS + " players per request");
+            }
+
+            Map<String, PlayerPathwayResponse> resolved = cacheManager.getPlayerPathways(playerNames);
+
+            int found = 0;
+            Map<String, PathwayBatchResponse.Entry> players = new LinkedHashMap<>();
+            for (String playerName : playerNames) {
+                PlayerPathwayResponse data = resolved.get(playerName);
+                boolean beyonder = data != null && Boolean.TRUE.equals(data.getBeyonder());
+                if (beyonder) {
+                    found++;
+                }
+                players.put(playerName, PathwayBatchResponse.Entry.builder()
+                        .found(beyonder)
+                        .data(data)
+                        .build());
+            }
+
+            ctx.json(BridgeApiResponse.success(PathwayBatchResponse.builder()
+                    .requested(playerNames.size())
+                    .found(found)
+                    .players(players)
+                    .build()));
+        } finally {
+            latency.recordSince(start);
+        }
+    }
+}
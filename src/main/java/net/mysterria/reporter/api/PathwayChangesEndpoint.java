@@ -0,0 +1,118 @@
+package net.mysterria.reporter.api;
+
+import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import io.javalin.openapi.OpenApiContent;
+import io.javalin.openapi.OpenApiParam;
+import io.javalin.openapi.OpenApiResponse;
+import net.mysterria.reporter.manager.BeyonderTable;
+import net.mysterria.reporter.manager.ChangeFeed;
+import net.mysterria.reporter.manager.LatencyHistogram;
+import net.mysterria.reporter.manager.PathwayCacheManager;
+import net.mysterria.reporter.manager.ReporterMetrics;
+import net.mysterria.reporter.model.PathwayChangesResponse;
+import net.mysterria.reporter.util.PathwayUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class PathwayChangesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 500;
+    private static final int MAX_LIMIT = 5000;
+
+    private final PathwayCacheManager cacheManager;
+    private final LatencyHistogram latency;
+
+    public PathwayChangesEndpoint(PathwayCacheManager cacheManager, ReporterMetrics metrics) {
+        this.cacheManager = cacheManager;
+        this.latency = metrics.endpoint("pathway_changes");
+    }
+
+    @OpenApi(
+            path = "/pathway/changes/{since}",
+            methods = HttpMethod.GET,
+            summary = "Get pathway changes since a version",
+            description = "Returns beyonders added, removed or changed after the given snapshot version, oldest first. " +
+                          "Start from the version of /pathway/everyone and pass back the returned version. " +
+                          "If resync is true the version is too old and /pathway/everyone must be fetched again",
+            tags = {"Reporter"},
+            pathParams = @OpenApiParam(name = "since", type = Long.class, description = "Snapshot version the client holds"),
+            queryParams = @OpenApiParam(name = "limit", type = Integer.class,
+                    description = "Changes per response, 1-5000 (default 500); whole versions are never split"),
+            responses = @OpenApiResponse(status = "200", content = @OpenApiContent(from = PathwayChangesResponse.class))
+    )
+    public void getChanges(Context ctx) {
+        long start = System.nanoTime();
+        try {
+            long since = parseLong(ctx.pathParam("since"), "since");
+            String limitParam = ctx.queryParam("limit");
+            int limit = limitParam == null || limitParam.isBlank()
+                    ? DEFAULT_LIMIT
+                    : (int) Math.min(Math.max(parseLong(limitParam, "limit"), 1), MAX_LIMIT);
+
+            ChangeFeed.Changes changes = cacheManager.getChangesSince(since, limit);
+
+            List<PathwayChangesResponse.Change> entries = new ArrayList<>(changes.changes().size());
+            for (ChangeFeed.Change change : changes.changes()) {
+                entries.add(toEntry(change));
+            }
+
+            ctx.json(BridgeApiResponse.success(PathwayChangesResponse.builder()
+                    .since(since)
+                    .version(changes.version())
+                    .resync(changes.resync())
+                    .hasMore(changes.hasMore())
+                    .changes(entries)
+                    .build()));
+        } finally {
+            latency.recordSince(start);
+        }
+    }
+
+    private static PathwayChangesResponse.Change toEntry(ChangeFeed.Change change) {
+        List<String> fields = new ArrayList<>(3);
+        if ((change.fields() & ChangeFeed.FIELD_PATHWAY) != 0) {
+            fields.add("pathway");
+        }
+        if ((change.fields() & ChangeFeed.FIELD_SEQUENCE) != 0) {
+            fields.add("sequence");
+        }
+        if ((change.fields() & ChangeFeed.FIELD_ACTING) != 0) {
+            fields.add("acting");
+        }
+
+        return PathwayChangesResponse.Change.builder()
+                .version(change.version())
+                .playerName(change.playerName())
+                .type(change.type().name().toLowerCase(Locale.ROOT))
+                .fields(fields)
+                .pathway(change.pathway())
+                .sequence(formatSequence(change.sequence()))
+                .acting(formatActing(change.acting()))
+                .previousPathway(change.previousPathway())
+                .previousSequence(formatSequence(change.previousSequence()))
+                .previousActing(formatActing(change.previousActing()))
+                .build();
+    }
+
+    private static String formatSequence(int sequence) {
+        return sequence == BeyonderTable.NO_SEQUENCE ? null : Integer.toString(sequence);
+    }
+
+    private static String formatActing(double acting) {
+        return Double.isNaN(acting) ? null : PathwayUtil.formatActing(acting);
+    }
+
+    private static long parseLong(String value, String name) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new BadRequestResponse(name + " must be a number");
+        }
+    }
+}
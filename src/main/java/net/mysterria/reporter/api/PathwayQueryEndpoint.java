@@ -0,0 +1,101 @@
+package net.mysterria.reporter.api;
+
+import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import io.javalin.openapi.OpenApiContent;
+import io.javalin.openapi.OpenApiParam;
+import io.javalin.openapi.OpenApiResponse;
+import net.mysterria.reporter.manager.LatencyHistogram;
+import net.mysterria.reporter.manager.PathwayCacheManager;
+import net.mysterria.reporter.manager.PathwayIndex;
+import net.mysterria.reporter.manager.ReporterMetrics;
+import net.mysterria.reporter.model.PathwayQueryResponse;
+
+public class PathwayQueryEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 500;
+
+    private final PathwayCacheManager cacheManager;
+    private final LatencyHistogram latency;
+
+    public PathwayQueryEndpoint(PathwayCacheManager cacheManager, ReporterMetrics metrics) {
+        this.cacheManager = cacheManager;
+        this.latency = metrics.endpoint("pathway_query");
+    }
+
+    @OpenApi(
+            path = "/pathway/query",
+            methods = HttpMethod.GET,
+            summary = "Query beyonders",
+            description = "Filters the cached beyonders by pathway, sequence range and name prefix, answered from indices",
+            tags = {"Reporter"},
+            queryParams = {
+                    @OpenApiParam(name = "pathway", description = "Primary pathway name (case-insensitive)"),
+                    @OpenApiParam(name = "minSequence", type = Integer.class, description = "Lowest sequence to include"),
+                    @OpenApiParam(name = "maxSequence", type = Integer.class, description = "Highest sequence to include"),
+                    @OpenApiParam(name = "prefix", description = "Player name prefix (case-insensitive)"),
+                    @OpenApiParam(name = "sort", description = "name (default) or sequence"),
+                    @OpenApiParam(name = "cursor", description = "nextCursor from the previous page"),
+                    @OpenApiParam(name = "limit", type = Integer.class, description = "Page size, 1-500 (default 50)")
+            },
+            responses = @OpenApiResponse(status = "200", content = @OpenApiContent(from = PathwayQueryResponse.class))
+    )
+    public void queryPathways(Context ctx) {
+        long start = System.nanoTime();
+        try {
+            String sort = ctx.queryParam("sort");
+            if (sort == null || sort.isBlank()) {
+                sort = PathwayIndex.SORT_NAME;
+            } else if (!sort.equals(PathwayIndex.SORT_NAME) && !sort.equals(PathwayIndex.SORT_SEQUENCE)) {
+                throw new BadRequestResponse("sort must be 'name' or 'sequence'");
+            }
+
+            Integer limit = parseInt(ctx, "limit");
+            PathwayIndex.Query query = new PathwayIndex.Query(
+                    blankToNull(ctx.queryParam("pathway")),
+                    parseInt(ctx, "minSequence"),
+                    parseInt(ctx, "maxSequence"),
+                    blankToNull(ctx.queryParam("prefix")),
+                    sort,
+                    blankToNull(ctx.queryParam("cursor")),
+                    limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT)
+            );
+
+            PathwayIndex.Page page;
+            try {
+                page = cacheManager.getEveryoneIndex().query(query);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestResponse(e.getMessage());
+            }
+
+            ctx.json(BridgeApiResponse.success(PathwayQueryResponse.builder()
+                    .amount(page.beyonders().size())
+                    .total(page.total())
+                    .nextCursor(page.nextCursor())
+                    .beyonder(page.beyonders())
+                    .build()));
+        } finally {
+            latency.recordSince(start);
+        }
+    }
+
+    private static Integer parseInt(Context ctx, String name) {
+        String value = blankToNull(ctx.queryParam(name));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestResponse(name + " must be a number");
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
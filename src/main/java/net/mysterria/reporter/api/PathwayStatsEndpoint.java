@@ -0,0 +1,38 @@
+package net.mysterria.reporter.api;
+
+import dev.ua.ikeepcalm.catwalk.bridge.annotations.BridgeEventHandler;
+import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
+import io.javalin.openapi.HttpMethod;
+import io.javalin.openapi.OpenApi;
+import net.mysterria.reporter.manager.LatencyHistogram;
+import net.mysterria.reporter.manager.PathwayCacheManager;
+import net.mysterria.reporter.manager.ReporterMetrics;
+import net.mysterria.reporter.model.PathwayStatsResponse;
+
+public class PathwayStatsEndpoint {
+
+    private final PathwayCacheManager cacheManager;
+    private final LatencyHistogram latency;
+
+    public PathwayStatsEndpoint(PathwayCacheManager cacheManager, ReporterMetrics metrics) {
+        this.cacheManager = cacheManager;
+        this.latency = metrics.endpoint("pathway_stats");
+    }
+
+    @OpenApi(
+            path = "/pathway/stats",
+            methods = HttpMethod.GET,
+            summary = "Get pathway distribution",
+            description = "Reports beyonder counts per pathway and sequence, and average acting progress",
+            tags = {"Reporter"}
+    )
+    @BridgeEventHandler(requiresAuth = false, description = "Get pathway and sequence distribution", logRequests = true)
+    public BridgeApiResponse<PathwayStatsResponse> getPathwayStats() {
+        long start = System.nanoTime();
+        try {
+            return BridgeApiResponse.success(cacheManager.getPathwayStatistics());
+        } finally {
+            latency.recordSince(start);
+        }
+    }
+}
@@ -5,15 +5,19 @@ import dev.ua.ikeepcalm.catwalk.bridge.annotations.BridgePathParam;
 import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
 import io.javalin.openapi.HttpMethod;
 import io.javalin.openapi.OpenApi;
+import net.mysterria.reporter.manager.LatencyHistogram;
 import net.mysterria.reporter.manager.PathwayCacheManager;
+import net.mysterria.reporter.manager.ReporterMetrics;
 import net.mysterria.reporter.model.PlayerPathwayResponse;
 
 public class PlayerPathwayEndpoint {
 
     private final PathwayCacheManager cacheManager;
+    private final LatencyHistogram latency;
 
-    public PlayerPathwayEndpoint(PathwayCacheManager cacheManager) {
+    public PlayerPathwayEndpoint(PathwayCacheManager cacheManager, ReporterMetrics metrics) {
         this.cacheManager = cacheManager;
+        this.latency = metrics.endpoint("player_pathway");
     }
 
     @OpenApi(
@@ -25,7 +29,12 @@ public class PlayerPathwayEndpoint {
     )
     @BridgeEventHandler(requiresAuth = false, description = "Get player's primary pathway", logRequests = true)
     public BridgeApiResponse<PlayerPathwayResponse> getPathway(@BridgePathParam("player") String playerName) {
-        PlayerPathwayResponse response = cacheManager.getPlayerPathway(playerName);
-        return BridgeApiResponse.success(response);
+        long start = System.nanoTime();
+        try {
+            PlayerPathwayResponse response = cacheManager.getPlayerPathway(playerName);
+            return BridgeApiResponse.success(response);
+        } finally {
+            latency.recordSince(start);
+        }
     }
 }
\ No newline at end of file
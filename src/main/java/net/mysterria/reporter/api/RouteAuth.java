@@ -0,0 +1,50 @@
+package net.mysterria.reporter.api;
+
+import io.javalin.http.Context;
+import io.javalin.http.Handler;
+import io.javalin.http.Header;
+import io.javalin.http.UnauthorizedResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Bearer token check for routes registered directly on the webserver, which do not go through
+ * the bridge's authentication. Without a configured token every request is rejected.
+ */
+public class RouteAuth {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final byte[] token;
+
+    public RouteAuth(String token) {
+        this.token = token == null || token.isBlank() ? null : token.trim().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return Handler that runs the given one only for requests carrying the configured token
+     */
+    public Handler protect(Handler handler) {
+        return ctx -> {
+            authorize(ctx);
+            handler.handle(ctx);
+        };
+    }
+
+    private void authorize(Context ctx) {
+        if (token == null) {
+            throw new UnauthorizedResponse("No auth.token configured for this endpoint");
+        }
+
+        String header = ctx.header(Header.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            throw new UnauthorizedResponse("Missing bearer token");
+        }
+
+        byte[] presented = header.substring(BEARER_PREFIX.length()).trim().getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(token, presented)) {
+            throw new UnauthorizedResponse("Invalid token");
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package net.mysterria.reporter.command;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.mysterria.reporter.MysterriaReporter;
+import net.mysterria.reporter.manager.BeyonderScanner;
+import net.mysterria.reporter.manager.TickScanScheduler;
+import net.mysterria.reporter.manager.EveryoneSnapshotHolder;
+import net.mysterria.reporter.manager.FileCacheManager;
+import net.mysterria.reporter.manager.LatencyHistogram;
 import net.mysterria.reporter.manager.PathwayCacheManager;
+import net.mysterria.reporter.manager.ReporterMetrics;
+import net.mysterria.reporter.util.FileReaderUtil;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -13,6 +21,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 public class CacheCommand implements CommandExecutor, TabCompleter {
 
@@ -49,16 +58,13 @@ public class CacheCommand implements CommandExecutor, TabCompleter {
                     sender.sendMessage(Component.text("Cache cleared for player: " + playerName).color(NamedTextColor.GREEN));
                 } else {
                     cacheManager.invalidateAllCaches();
+                    plugin.getFileCacheManager().invalidateAll();
                     sender.sendMessage(Component.text("All caches cleared!").color(NamedTextColor.GREEN));
                 }
                 break;
 
             case "stats":
-                long playerCacheSize = cacheManager.getPlayerCacheSize();
-                int everyoneCacheSize = cacheManager.getEveryoneCacheSize();
-                sender.sendMessage(Component.text("=== Cache Statistics ===").color(NamedTextColor.GOLD));
-                sender.sendMessage(Component.text("Player cache entries: " + playerCacheSize).color(NamedTextColor.YELLOW));
-                sender.sendMessage(Component.text("Everyone cache entries: " + everyoneCacheSize).color(NamedTextColor.YELLOW));
+                sendStats(sender);
                 break;
 
             case "reload":
@@ -74,10 +80,100 @@ public class CacheCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    private void sendStats(CommandSender sender) {
+        ReporterMetrics metrics = plugin.getMetrics();
+        FileCacheManager fileCache = plugin.getFileCacheManager();
+
+        sender.sendMessage(Component.text("=== Cache Statistics ===").color(NamedTextColor.GOLD));
+        sendLine(sender, "Player cache entries: " + cacheManager.getPlayerCacheSize() + formatHitRatio(cacheManager.getPlayerCacheStats()));
+        sendLine(sender, "Everyone cache entries: " + cacheManager.getEveryoneCacheSize());
+        EveryoneSnapshotHolder.Snapshot snapshot = cacheManager.getPublishedSnapshot();
+        if (snapshot != null) {
+            long age = (System.currentTimeMillis() - snapshot.builtAt()) / 1000L;
+            sendLine(sender, "Everyone snapshot: version " + snapshot.version() + ", built " + age + "s ago");
+        }
+        sendLine(sender, "Players pending refresh: " + cacheManager.getDirtyPlayerCount());
+        sendScanStats(sender);
+        for (ReporterMetrics.RefreshKind kind : ReporterMetrics.RefreshKind.values()) {
+            ReporterMetrics.RefreshStats refresh = metrics.getRefreshStats(kind);
+            if (refresh.getLastDurationMillis() >= 0) {
+                sendLine(sender, "Last " + kind.name().toLowerCase(Locale.ROOT) + " refresh: " + refresh.getLastPlayerCount() +
+                                 " players in " + refresh.getLastDurationMillis() + "ms (" + refresh.getDuration().getCount() + " total)");
+            }
+        }
+
+        sendLine(sender, "Cached data files: " + fileCache.getCachedFileCount() + " (" + fileCache.getMissingFileCount() + " known missing)" +
+                         formatHitRatio(fileCache.getContentCacheStats()));
+        sendLine(sender, "Parsed YAML cache:" + formatHitRatio(fileCache.getParsedCacheStats()));
+        sendLine(sender, "Bytes read from files: " + formatBytes(FileReaderUtil.getBytesRead()));
+
+        if (!metrics.getEndpoints().isEmpty()) {
+            sender.sendMessage(Component.text("=== Endpoint Latency ===").color(NamedTextColor.GOLD));
+            metrics.getEndpoints().forEach((name, histogram) -> {
+                long count = histogram.getCount();
+                if (count > 0) {
+                    sendLine(sender, name + ": " + count + " requests, p50 " + formatSeconds(histogram.getQuantile(0.5)) +
+                                     ", p99 " + formatSeconds(histogram.getQuantile(0.99)) +
+                                     ", avg " + formatSeconds(histogram.getSumSeconds() / count));
+                }
+            });
+        }
+    }
+
+    private static void sendLine(CommandSender sender, String text) {
+        sender.sendMessage(Component.text(text).color(NamedTextColor.YELLOW));
+    }
+
+    private static String formatHitRatio(CacheStats stats) {
+        if (stats.requestCount() == 0) {
+            return "";
+        }
+        return String.format(Locale.ROOT, " - %.1f%% hits of %d lookups", stats.hitRate() * 100, stats.requestCount());
+    }
+
+    private static String formatSeconds(double seconds) {
+        if (Double.isInfinite(seconds)) {
+            return ">" + LatencyHistogram.REQUEST_BUCKETS[LatencyHistogram.REQUEST_BUCKETS.length - 1] + "s";
+        }
+        return String.format(Locale.ROOT, "%.1fms", seconds * 1000);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KiB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MiB", bytes / (1024.0 * 1024.0));
+    }
+
+    private void sendScanStats(CommandSender sender) {
+        BeyonderScanner scanner = cacheManager.getScanner();
+        if (scanner.isRunning()) {
+            int total = scanner.getTotal();
+            int processed = scanner.getProcessed();
+            int percent = total > 0 ? (int) (processed * 100L / total) : 0;
+            sender.sendMessage(Component.text("Scan in progress: " + processed + "/" + total + " (" + percent + "%)").color(NamedTextColor.YELLOW));
+        }
+
+        long lastDuration = scanner.getLastDurationMillis();
+        if (lastDuration >= 0) {
+            sender.sendMessage(Component.text("Last scan: " + scanner.getLastPlayerCount() + " players in " + lastDuration + "ms")
+                    .color(NamedTextColor.YELLOW));
+        }
+        TickScanScheduler tickScheduler = scanner.getTickScheduler();
+        if (tickScheduler != null) {
+            sender.sendMessage(Component.text(String.format(Locale.ROOT, "Scan mode: tick (budget %.2f/%.2f ms, %d ticks used)",
+                    tickScheduler.getLastBudgetNanos() / 1e6, tickScheduler.getBudgetNanos() / 1e6,
+                    tickScheduler.getTicksUsed())).color(NamedTextColor.YELLOW));
+        } else {
+            sender.sendMessage(Component.text("Scan parallelism: " + scanner.getParallelism() + " (" +
+                                              Runtime.getRuntime().availableProcessors() + " cores)").color(NamedTextColor.YELLOW));
+        }
+    }
+
     private void sendHelp(CommandSender sender) {
         sender.sendMessage(Component.text("=== MysterriaReporter Cache Commands ===").color(NamedTextColor.GOLD));
         sender.sendMessage(Component.text("/reporter refresh").color(NamedTextColor.YELLOW)
-                .append(Component.text(" - Refresh everyone cache").color(NamedTextColor.WHITE)));
+                .append(Component.text(" - Rescan all players into everyone cache").color(NamedTextColor.WHITE)));
         sender.sendMessage(Component.text("/reporter clear [player]").color(NamedTextColor.YELLOW)
                 .append(Component.text(" - Clear cache (all or specific player)").color(NamedTextColor.WHITE)));
         sender.sendMessage(Component.text("/reporter stats").color(NamedTextColor.YELLOW)
@@ -0,0 +1,27 @@
+package net.mysterria.reporter.listener;
+
+import net.mysterria.reporter.manager.PathwayCacheManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+public class PlayerActivityListener implements Listener {
+
+    private final PathwayCacheManager cacheManager;
+
+    public PlayerActivityListener(PathwayCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        cacheManager.markDirty(event.getPlayer().getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        cacheManager.markDirty(event.getPlayer().getName());
+    }
+}
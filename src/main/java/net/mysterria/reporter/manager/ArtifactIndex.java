@@ -0,0 +1,492 @@
+package net.mysterria.reporter.manager;
+
+import net.mysterria.reporter.MysterriaReporter;
+import net.mysterria.reporter.util.FileReaderUtil;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory index of the artifact files' key fields (owner, type, pathway). The directory is
+ * scanned in parallel once, then kept current from a {@link WatchService}, with a periodic
+ * rescan to cover missed or overflowed events. Readers only ever see an immutable {@link View}
+ * (entries sorted by id plus per-field buckets of positions), which is rebuilt and swapped in
+ * after each batch of changes; artifact files change rarely, so rebuilding is cheaper than
+ * keeping mutable indices consistent under concurrent reads.
+ */
+public class ArtifactIndex {
+
+    private static final String ARTIFACT_DIRECTORY = "plugins/CircleOfImagination/artifacts/";
+    private static final String FILE_SUFFIX = ".yml";
+    private static final long DEBOUNCE_MILLIS = 200;
+    // Without a watcher, rescans are the only way to see changes even if they were turned off
+    private static final long UNWATCHED_RESCAN_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final MysterriaReporter plugin;
+    private final Path directory = Paths.get("").toAbsolutePath().resolve(ARTIFACT_DIRECTORY);
+    private final String[] ownerPath;
+    private final String[] typePath;
+    private final String[] pathwayPath;
+    private final int scanParallelism;
+    private final long rescanIntervalMillis;
+
+    // Written by the index thread only
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile View view;
+    private volatile boolean running;
+    private Thread indexThread;
+    private volatile WatchService watchService;
+
+    /**
+     * Indexed fields of one artifact file; fields missing from the file are null
+     */
+    public record Entry(String id, String owner, String type, String pathway, long size, long modified) {
+    }
+
+    /**
+     * Filters are exact, case-insensitive matches; null filters are ignored
+     */
+    public record Query(String owner, String type, String pathway, String cursor, int limit) {
+    }
+
+    public record Page(List<Entry> artifacts, int total, String nextCursor) {
+    }
+
+    private record View(Entry[] sorted, Map<String, Entry> byId, Map<String, int[]> byOwner,
+                        Map<String, int[]> byType, Map<String, int[]> byPathway, long builtAt) {
+    }
+
+    public ArtifactIndex(MysterriaReporter plugin) {
+        this.plugin = plugin;
+
+        FileConfiguration config = plugin.getConfig();
+        this.ownerPath = config.getString("artifacts.index.owner-key", "owner").split("\\.");
+        this.typePath = config.getString("artifacts.index.type-key", "type").split("\\.");
+        this.pathwayPath = config.getString("artifacts.index.pathway-key", "pathway").split("\\.");
+        this.scanParallelism = Math.max(1, config.getInt("artifacts.index.scan-parallelism", 8));
+        this.rescanIntervalMillis = TimeUnit.SECONDS.toMillis(Math.max(0, config.getLong("artifacts.index.rescan-interval-seconds", 300)));
+    }
+
+    /**
+     * Starts the index thread, which scans the directory and then follows changes. Queries fail
+     * with {@link IllegalStateException} until the first scan is published.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        indexThread = new Thread(this::indexLoop, "MysterriaReporter-ArtifactIndex");
+        indexThread.setDaemon(true);
+        indexThread.start();
+    }
+
+    private void indexLoop() {
+        long rescanInterval = rescanIntervalMillis;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            // Registered before the scan so that changes made during it are not lost
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            closeWatchService();
+            if (rescanInterval == 0) {
+                rescanInterval = UNWATCHED_RESCAN_MILLIS;
+            }
+            plugin.getLogger().warning("Artifact watch service unavailable, rescanning every "
+                                       + TimeUnit.MILLISECONDS.toSeconds(rescanInterval) + "s: " + e.getMessage());
+        }
+
+        try {
+            watchLoop(rescanInterval);
+        } finally {
+            closeWatchService();
+        }
+    }
+
+    private void watchLoop(long rescanInterval) {
+        long lastScan = 0;
+        while (running) {
+            try {
+                if (view == null || (rescanInterval > 0 && System.currentTimeMillis() - lastScan >= rescanInterval)) {
+                    rescan();
+                    lastScan = System.currentTimeMillis();
+                    continue;
+                }
+
+                long wait = rescanInterval > 0 ? Math.max(1, lastScan + rescanInterval - System.currentTimeMillis()) : Long.MAX_VALUE;
+                WatchService watcher = watchService;
+                if (watcher == null) {
+                    Thread.sleep(wait);
+                    continue;
+                }
+
+                WatchKey key = watcher.poll(wait, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    continue;
+                }
+
+                // Editors and COI saves emit several events per file; collect them into one batch
+                Set<String> changed = new HashSet<>();
+                boolean overflow = false;
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            overflow = true;
+                        } else if (event.context() instanceof Path path) {
+                            String id = toId(path.getFileName().toString());
+                            if (id != null) {
+                                changed.add(id);
+                            }
+                        }
+                    }
+                    if (!key.reset()) {
+                        // The directory itself went away; from here on only periodic rescans see changes
+                        overflow = true;
+                    }
+                    key = watcher.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+
+                if (overflow) {
+                    rescan();
+                    lastScan = System.currentTimeMillis();
+                } else if (!changed.isEmpty()) {
+                    update(changed);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error while indexing artifacts: " + e.getMessage());
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+                } catch (InterruptedException interrupted) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Re-reads every artifact file whose size or modification time changed and drops deleted ones
+     */
+    private void rescan() throws InterruptedException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        } catch (NoSuchFileException e) {
+            files.clear();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to list artifacts: " + e.getMessage());
+            return;
+        }
+
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        Semaphore permits = new Semaphore(scanParallelism);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Path file : files) {
+                permits.acquire();
+                executor.execute(() -> {
+                    try {
+                        String id = toId(file.getFileName().toString());
+                        if (id != null) {
+                            seen.add(id);
+                            refresh(id);
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        entries.keySet().retainAll(seen);
+        publish();
+    }
+
+    private void update(Collection<String> ids) {
+        for (String id : ids) {
+            refresh(id);
+        }
+        publish();
+    }
+
+    /**
+     * Re-reads one artifact if its file changed since it was indexed, or removes it if the file is gone
+     */
+    private void refresh(String id) {
+        Path file = directory.resolve(id + FILE_SUFFIX);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                entries.remove(id);
+                return;
+            }
+
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().toMillis();
+            Entry current = entries.get(id);
+            if (current != null && current.size() == size && current.modified() == modified) {
+                return;
+            }
+
+            byte[] content = Files.readAllBytes(file);
+            FileReaderUtil.recordBytesRead(content.length);
+            Object document = new Yaml(new SafeConstructor(new LoaderOptions())).load(new String(content, StandardCharsets.UTF_8));
+            entries.put(id, new Entry(id, field(document, ownerPath), field(document, typePath), field(document, pathwayPath), size, modified));
+        } catch (NoSuchFileException e) {
+            entries.remove(id);
+        } catch (Exception e) {
+            // Keep the previous entry; a half-written file is picked up again by its next modify event
+            plugin.getLogger().warning("Failed to index artifact " + id + ": " + e.getMessage());
+        }
+    }
+
+    private static String field(Object document, String[] path) {
+        Object node = document;
+        for (String key : path) {
+            if (!(node instanceof Map<?, ?> map)) {
+                return null;
+            }
+            node = map.get(key);
+        }
+        return node == null || node instanceof Map<?, ?> || node instanceof Collection<?> ? null : String.valueOf(node);
+    }
+
+    private static String toId(String fileName) {
+        if (!fileName.endsWith(FILE_SUFFIX)) {
+            return null;
+        }
+        String id = fileName.substring(0, fileName.length() - FILE_SUFFIX.length());
+        return !id.isEmpty() && FileReaderUtil.sanitizeArtifactId(id).equals(id) ? id : null;
+    }
+
+    private void publish() {
+        Entry[] sorted = entries.values().toArray(new Entry[0]);
+        Arrays.sort(sorted, Comparator.comparing(Entry::id));
+
+        Map<String, Entry> byId = new HashMap<>(sorted.length * 2);
+        Map<String, IntList> byOwner = new HashMap<>();
+        Map<String, IntList> byType = new HashMap<>();
+        Map<String, IntList> byPathway = new HashMap<>();
+        for (int i = 0; i < sorted.length; i++) {
+            Entry entry = sorted[i];
+            byId.put(entry.id(), entry);
+            addTo(byOwner, entry.owner(), i);
+            addTo(byType, entry.type(), i);
+            addTo(byPathway, entry.pathway(), i);
+        }
+
+        view = new View(sorted, byId, toArrays(byOwner), toArrays(byType), toArrays(byPathway), System.currentTimeMillis());
+    }
+
+    private static void addTo(Map<String, IntList> buckets, String value, int position) {
+        if (value != null) {
+            buckets.computeIfAbsent(key(value), ignored -> new IntList()).add(position);
+        }
+    }
+
+    private static Map<String, int[]> toArrays(Map<String, IntList> buckets) {
+        Map<String, int[]> arrays = new HashMap<>(buckets.size() * 2);
+        buckets.forEach((value, positions) -> arrays.put(value, positions.toArray()));
+        return arrays;
+    }
+
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private View current() {
+        View current = view;
+        if (current == null) {
+            throw new IllegalStateException("Artifact index is still loading");
+        }
+        return current;
+    }
+
+    public boolean isReady() {
+        return view != null;
+    }
+
+    /**
+     * @return Indexed artifact, or null if there is none with this id
+     * @throws IllegalStateException If the first scan has not finished yet
+     */
+    public Entry get(String id) {
+        return current().byId().get(id);
+    }
+
+    /**
+     * Pages through matching artifacts in id order. With filters, only the smallest matching
+     * bucket is walked and the other filters are checked per entry.
+     * @throws IllegalArgumentException If the cursor is invalid
+     * @throws IllegalStateException If the first scan has not finished yet
+     */
+    public Page query(Query query) {
+        View current = current();
+        Entry[] sorted = current.sorted();
+
+        int[] candidates = null;
+        for (int[] bucket : new int[][]{
+                bucket(current.byOwner(), query.owner()),
+                bucket(current.byType(), query.type()),
+                bucket(current.byPathway(), query.pathway())}) {
+            if (bucket != null && (candidates == null || bucket.length < candidates.length)) {
+                candidates = bucket;
+            }
+        }
+        int candidateCount = candidates != null ? candidates.length : sorted.length;
+
+        String after = decodeCursor(query.cursor());
+        int from = 0;
+        if (after != null) {
+            int low = 0;
+            int high = candidateCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                Entry entry = sorted[candidates != null ? candidates[mid] : mid];
+                if (entry.id().compareTo(after) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            from = low;
+        }
+
+        List<Entry> artifacts = new ArrayList<>(Math.min(query.limit(), candidateCount));
+        int total = 0;
+        boolean more = false;
+        for (int i = 0; i < candidateCount; i++) {
+            Entry entry = sorted[candidates != null ? candidates[i] : i];
+            if (!matches(entry, query)) {
+                continue;
+            }
+            total++;
+            if (i < from) {
+                continue;
+            }
+            if (artifacts.size() < query.limit()) {
+                artifacts.add(entry);
+            } else {
+                more = true;
+            }
+        }
+
+        String nextCursor = more ? encodeCursor(artifacts.get(artifacts.size() - 1).id()) : null;
+        return new Page(artifacts, total, nextCursor);
+    }
+
+    /**
+     * @return Positions of entries with the value, an empty bucket if there are none, or null without a filter
+     */
+    private static int[] bucket(Map<String, int[]> buckets, String value) {
+        if (value == null) {
+            return null;
+        }
+        return buckets.getOrDefault(key(value), new int[0]);
+    }
+
+    private static boolean matches(Entry entry, Query query) {
+        return matches(entry.owner(), query.owner()) && matches(entry.type(), query.type()) && matches(entry.pathway(), query.pathway());
+    }
+
+    private static boolean matches(String value, String filter) {
+        return filter == null || (value != null && value.equalsIgnoreCase(filter));
+    }
+
+    private static String encodeCursor(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public int size() {
+        View current = view;
+        return current != null ? current.sorted().length : 0;
+    }
+
+    /**
+     * @return Time the current view was published, or 0 before the first scan
+     */
+    public long getBuiltAt() {
+        View current = view;
+        return current != null ? current.builtAt() : 0;
+    }
+
+    public void shutdown() {
+        running = false;
+        if (indexThread != null) {
+            indexThread.interrupt();
+        }
+        closeWatchService();
+    }
+
+    private void closeWatchService() {
+        WatchService watcher = watchService;
+        watchService = null;
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
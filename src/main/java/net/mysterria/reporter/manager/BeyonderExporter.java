@@ -0,0 +1,235 @@
+package net.mysterria.reporter.manager;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.mysterria.reporter.MysterriaReporter;
+import net.mysterria.reporter.util.FileReaderUtil;
+import net.mysterria.reporter.util.JsonUtil;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams every beyonder data file as NDJSON. Files are read and serialized by a small shared
+ * worker pool while the requesting thread writes finished records in completion order. At most
+ * {@code queue-size} records per export are in flight (being read or waiting to be written), and
+ * a new file is only handed to the pool once a record has been written, so a slow client slows
+ * the reads down instead of letting them pile up in memory.
+ */
+public class BeyonderExporter {
+
+    private static final String BEYONDER_DIRECTORY = "plugins/CircleOfImagination/data/beyonders/";
+    private static final String FILE_SUFFIX = ".yml";
+    private static final byte[] SKIPPED = new byte[0];
+    private static final byte[] FAILED = new byte[0];
+
+    private final MysterriaReporter plugin;
+    private final Path directory = Paths.get("").toAbsolutePath().resolve(BEYONDER_DIRECTORY);
+    private final ExecutorService workers;
+    private final int queueSize;
+    private final Semaphore exports;
+
+    /**
+     * @param exported Records written
+     * @param skipped Files left out by the modified-since filter
+     * @param failed Files that could not be read or parsed
+     */
+    public record Summary(int exported, int skipped, int failed) {
+    }
+
+    /**
+     * The export stopped before every file was written, because the plugin is shutting down or the
+     * exporting thread was interrupted. The stream has already been ended with an error record.
+     */
+    public static class ExportCancelledException extends IOException {
+
+        public ExportCancelledException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    public BeyonderExporter(MysterriaReporter plugin) {
+        this.plugin = plugin;
+
+        FileConfiguration config = plugin.getConfig();
+        int workerCount = Math.max(1, config.getInt("export.workers", 4));
+        this.queueSize = Math.max(1, config.getInt("export.queue-size", 64));
+        this.exports = new Semaphore(Math.max(1, config.getInt("export.max-concurrent", 2)));
+
+        AtomicInteger threadIds = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "MysterriaReporter-Export-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Reserves an export slot; every successful call must be paired with {@link #release()}
+     * @return False if the maximum number of concurrent exports is already running
+     */
+    public boolean tryAcquire() {
+        return exports.tryAcquire();
+    }
+
+    public void release() {
+        exports.release();
+    }
+
+    /**
+     * Writes one JSON object per beyonder file: {@code player}, {@code modified} (epoch millis) and
+     * {@code data}, the file as a raw YAML string or, if structured, parsed into JSON
+     * @param out Destination; it is written from the calling thread only
+     * @param modifiedSince Only include files modified at or after this epoch millis, or 0 for all
+     * @throws ExportCancelledException If the export was cut short; a final {@code {"error": ...}} line tells the client
+     * @throws IOException If writing to out fails, e.g. because the client disconnected
+     */
+    public Summary export(OutputStream out, long modifiedSince, boolean structured) throws IOException {
+        LinkedBlockingQueue<byte[]> finished = new LinkedBlockingQueue<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Tally tally = new Tally();
+        int submitted = 0;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                // Write finished records until there is room for another read
+                for (; submitted >= queueSize; submitted--) {
+                    tally.write(take(finished), out);
+                }
+
+                submitted++;
+                workers.execute(() -> finished.add(cancelled.get() ? SKIPPED : read(file, modifiedSince, structured)));
+            }
+
+            for (; submitted > 0; submitted--) {
+                tally.write(take(finished), out);
+            }
+            out.flush();
+            return new Summary(tally.exported, tally.skipped, tally.failed);
+        } catch (NoSuchFileException e) {
+            return new Summary(0, 0, 0);
+        } catch (RejectedExecutionException e) {
+            cancelled.set(true);
+            throw cancel(out, new ExportCancelledException("Export cancelled, plugin is shutting down", e), tally);
+        } catch (ExportCancelledException e) {
+            cancelled.set(true);
+            throw cancel(out, e, tally);
+        } catch (IOException | RuntimeException e) {
+            // Reads still queued for this export would only be thrown away
+            cancelled.set(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Ends the stream with an error record, so a client does not mistake the partial export for a complete one
+     */
+    private ExportCancelledException cancel(OutputStream out, ExportCancelledException e, Tally tally) {
+        plugin.getLogger().warning(e.getMessage() + " after " + tally.exported + " records");
+        try {
+            out.write(JsonUtil.toJsonBytes(Map.of("error", e.getMessage())));
+            out.write('\n');
+            out.flush();
+        } catch (IOException | RuntimeException ignored) {
+            // Client is gone as well
+        }
+        return e;
+    }
+
+    private static final class Tally {
+        private int exported;
+        private int skipped;
+        private int failed;
+
+        private void write(byte[] record, OutputStream out) throws IOException {
+            if (record == SKIPPED) {
+                skipped++;
+            } else if (record == FAILED) {
+                failed++;
+            } else {
+                out.write(record);
+                exported++;
+            }
+        }
+    }
+
+    private byte[] take(LinkedBlockingQueue<byte[]> finished) throws IOException {
+        try {
+            while (true) {
+                byte[] record = finished.poll(1, TimeUnit.SECONDS);
+                if (record != null) {
+                    return record;
+                }
+                // shutdownNow() drops queued reads, so records still owed to this export will never arrive
+                if (workers.isTerminated()) {
+                    throw new ExportCancelledException("Export cancelled, plugin is shutting down", null);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExportCancelledException("Export interrupted", e);
+        }
+    }
+
+    /**
+     * @return One NDJSON line, {@link #SKIPPED} if the file is older than modifiedSince, or {@link #FAILED}
+     */
+    private byte[] read(Path file, long modifiedSince, boolean structured) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            long modified = attributes.lastModifiedTime().toMillis();
+            if (modified < modifiedSince || !attributes.isRegularFile()) {
+                return SKIPPED;
+            }
+
+            byte[] content = Files.readAllBytes(file);
+            FileReaderUtil.recordBytesRead(content.length);
+            String fileName = file.getFileName().toString();
+            String playerName = fileName.substring(0, fileName.length() - FILE_SUFFIX.length());
+            String yaml = new String(content, StandardCharsets.UTF_8);
+
+            ByteArrayOutputStream line = new ByteArrayOutputStream(content.length + 64);
+            try (JsonGenerator json = JsonUtil.getMapper().getFactory().createGenerator(line)) {
+                json.writeStartObject();
+                json.writeStringField("player", playerName);
+                json.writeNumberField("modified", modified);
+                json.writeFieldName("data");
+                if (structured) {
+                    json.writeObject(new Yaml(new SafeConstructor(new LoaderOptions())).load(yaml));
+                } else {
+                    json.writeString(yaml);
+                }
+                json.writeEndObject();
+            }
+            line.write('\n');
+            return line.toByteArray();
+        } catch (Exception e) {
+            plugin.getLogger().warning("Export skipped " + file.getFileName() + ": " + e.getMessage());
+            return FAILED;
+        }
+    }
+
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,220 @@
+package net.mysterria.reporter.manager;
+
+import dev.ua.ikeepcalm.coi.api.CircleOfImaginationAPI;
+import net.mysterria.reporter.model.PlayerPathwayResponse;
+import net.mysterria.reporter.util.PathwayUtil;
+import org.bukkit.Bukkit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolves pathway data for a list of players by splitting it into chunks and
+ * running them on virtual threads, with at most {@code parallelism} chunks in flight.
+ * With a {@link TickScanScheduler}, players are instead resolved on the main thread
+ * within its per-tick budget, for COI setups that must not be called concurrently.
+ */
+public class BeyonderScanner {
+
+    private final CircleOfImaginationAPI coiAPI;
+    private final int parallelism;
+    private final int chunkSize;
+    private final TickScanScheduler tickScheduler;
+
+    private final AtomicInteger processed = new AtomicInteger();
+    private volatile int total;
+    private volatile boolean running;
+    private volatile long lastDurationMillis = -1;
+    private volatile int lastPlayerCount;
+
+    /**
+     * Outcome of a scan
+     * @param resolved Resolved players in input order, non-beyonders included
+     * @param failed Players whose lookup failed; they are missing from resolved
+     */
+    public record Scan(List<PlayerPathwayResponse> resolved, Set<String> failed) {
+    }
+
+    public BeyonderScanner(CircleOfImaginationAPI coiAPI, int parallelism, int chunkSize) {
+        this(coiAPI, parallelism, chunkSize, null);
+    }
+
+    /**
+     * @param tickScheduler Resolves on the main thread when set, parallelism and chunk size are then unused
+     */
+    public BeyonderScanner(CircleOfImaginationAPI coiAPI, int parallelism, int chunkSize, TickScanScheduler tickScheduler) {
+        this.coiAPI = coiAPI;
+        this.parallelism = Math.max(1, parallelism);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.tickScheduler = tickScheduler;
+    }
+
+    /**
+     * Resolves every given player, preserving input order in the result.
+     * Non-beyonders are included so callers can tell removals apart from skips;
+     * players whose lookup failed are logged and reported separately, so callers can keep
+     * what they knew about them. If every lookup fails, the scan fails.
+     * Progress and duration are reported through the scan statistics.
+     */
+    public Scan scan(List<String> playerNames) {
+        long start = System.nanoTime();
+        processed.set(0);
+        total = playerNames.size();
+        running = true;
+
+        try {
+            List<PlayerPathwayResponse> results = resolveAll(playerNames, chunkSize, true);
+            lastPlayerCount = playerNames.size();
+            lastDurationMillis = (System.nanoTime() - start) / 1_000_000L;
+
+            Set<String> failed = new LinkedHashSet<>(playerNames);
+            for (PlayerPathwayResponse result : results) {
+                failed.remove(result.getPlayerName());
+            }
+            return new Scan(results, failed);
+        } finally {
+            running = false;
+        }
+    }
+
+    /**
+     * Resolves an ad-hoc set of players with the same bounded parallelism as a scan,
+     * without touching the scan statistics
+     */
+    public List<PlayerPathwayResponse> resolve(List<String> playerNames) {
+        // Small batches are spread over all permits instead of filling one chunk
+        int batchChunkSize = Math.min(chunkSize, Math.max(1, (playerNames.size() + parallelism - 1) / parallelism));
+        return resolveAll(playerNames, batchChunkSize, false);
+    }
+
+    /**
+     * Resolves a single player, on the main thread if this scanner is tick-budgeted
+     */
+    public PlayerPathwayResponse resolve(String playerName) {
+        if (tickScheduler == null || Bukkit.isPrimaryThread()) {
+            return PathwayUtil.getPlayerPathwayData(playerName, coiAPI);
+        }
+        return resolveOnTicks(List.of(playerName), false).get(0);
+    }
+
+    private List<PlayerPathwayResponse> resolveAll(List<String> playerNames, int chunkSize, boolean trackProgress) {
+        List<PlayerPathwayResponse> results = resolveAllowingFailures(playerNames, chunkSize, trackProgress);
+        if (results.isEmpty() && !playerNames.isEmpty()) {
+            // Every lookup failed, which points at COI rather than at single players; same as a failed tick job
+            throw new IllegalStateException("Beyonder scan failed for all " + playerNames.size() + " players");
+        }
+        return results;
+    }
+
+    private List<PlayerPathwayResponse> resolveAllowingFailures(List<String> playerNames, int chunkSize, boolean trackProgress) {
+        if (tickScheduler != null) {
+            // Already on the main thread: the caller owns this tick, waiting for later ones would deadlock
+            return Bukkit.isPrimaryThread()
+                    ? resolveChunk(playerNames, trackProgress)
+                    : resolveOnTicks(playerNames, trackProgress);
+        }
+
+        try {
+            List<Future<List<PlayerPathwayResponse>>> chunks = new ArrayList<>();
+            Semaphore permits = new Semaphore(parallelism);
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int from = 0; from < playerNames.size(); from += chunkSize) {
+                    List<String> chunk = playerNames.subList(from, Math.min(from + chunkSize, playerNames.size()));
+                    permits.acquire();
+                    chunks.add(executor.submit(() -> {
+                        try {
+                            return resolveChunk(chunk, trackProgress);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                }
+            }
+
+            List<PlayerPathwayResponse> results = new ArrayList<>(playerNames.size());
+            for (Future<List<PlayerPathwayResponse>> chunk : chunks) {
+                results.addAll(chunk.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Beyonder scan interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Beyonder scan failed", e.getCause());
+        }
+    }
+
+    private List<PlayerPathwayResponse> resolveOnTicks(List<String> playerNames, boolean trackProgress) {
+        try {
+            // Only scans track progress; anything else is a lookup someone waits on and goes ahead of them
+            return (trackProgress
+                    ? tickScheduler.submit(playerNames, processed)
+                    : tickScheduler.submitLookup(playerNames)).join();
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Beyonder scan cancelled", e);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CancellationException) {
+                throw new IllegalStateException("Beyonder scan cancelled", e.getCause());
+            }
+            throw new IllegalStateException("Beyonder scan failed", e.getCause());
+        }
+    }
+
+    private List<PlayerPathwayResponse> resolveChunk(List<String> chunk, boolean trackProgress) {
+        List<PlayerPathwayResponse> resolved = new ArrayList<>(chunk.size());
+        for (String playerName : chunk) {
+            try {
+                resolved.add(PathwayUtil.getPlayerPathwayData(playerName, coiAPI));
+            } catch (RuntimeException e) {
+                // One broken player must not fail the whole scan; callers treat a missing player as skipped
+                Bukkit.getLogger().warning("[MysterriaReporter] Failed to resolve pathway of " + playerName + ": " + e.getMessage());
+            }
+            if (trackProgress) {
+                processed.incrementAndGet();
+            }
+        }
+        return resolved;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getProcessed() {
+        return processed.get();
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return The main-thread scheduler, or null when scanning in parallel
+     */
+    public TickScanScheduler getTickScheduler() {
+        return tickScheduler;
+    }
+
+    public long getLastDurationMillis() {
+        return lastDurationMillis;
+    }
+
+    public int getLastPlayerCount() {
+        return lastPlayerCount;
+    }
+}
@@ -0,0 +1,326 @@
+package net.mysterria.reporter.manager;
+
+import net.mysterria.reporter.model.PlayerPathwayResponse;
+import net.mysterria.reporter.util.PathwayUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, column-oriented copy of the everyone dataset. Each beyonder is one row
+ * across parallel arrays: an interned name, a dictionary-encoded pathway id, the
+ * sequence as a byte and the acting ratio as a double. Rows are sorted by name,
+ * case-insensitively, so lookups are a binary search and no per-row objects exist
+ * until a response is materialized for serialization.
+ */
+public final class BeyonderTable {
+
+    /**
+     * Row order: case-insensitive name, then exact name so differently cased duplicates stay distinct
+     */
+    public static final Comparator<String> NAME_ORDER = String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+
+    public static final int NO_SEQUENCE = -1;
+
+    private static final int MAX_PATHWAYS = 256;
+    private static final String[] SEQUENCE_TEXT = new String[Byte.MAX_VALUE + 1];
+
+    static {
+        for (int i = 0; i < SEQUENCE_TEXT.length; i++) {
+            SEQUENCE_TEXT[i] = Integer.toString(i);
+        }
+    }
+
+    public static final BeyonderTable EMPTY = new BeyonderTable(new String[0], new String[0], new byte[0], new byte[0], new double[0]);
+
+    private final String[] pathways;
+    private final String[] names;
+    private final byte[] pathwayIds;
+    private final byte[] sequences;
+    private final double[] acting;
+
+    private BeyonderTable(String[] pathways, String[] names, byte[] pathwayIds, byte[] sequences, double[] acting) {
+        this.pathways = pathways;
+        this.names = names;
+        this.pathwayIds = pathwayIds;
+        this.sequences = sequences;
+        this.acting = acting;
+    }
+
+    /**
+     * Builds a table from resolved players; non-beyonders are skipped
+     */
+    public static BeyonderTable of(Collection<PlayerPathwayResponse> players) {
+        List<PlayerPathwayResponse> beyonders = new ArrayList<>(players.size());
+        for (PlayerPathwayResponse player : players) {
+            if (isStored(player)) {
+                beyonders.add(player);
+            }
+        }
+        beyonders.sort(Comparator.comparing(PlayerPathwayResponse::getPlayerName, NAME_ORDER));
+
+        Encoder encoder = new Encoder(beyonders.size());
+        for (PlayerPathwayResponse beyonder : beyonders) {
+            encoder.add(beyonder);
+        }
+        return encoder.finish();
+    }
+
+    /**
+     * Returns a new table with the given players replaced: beyonders are inserted or
+     * updated, anyone else is removed. Unchanged rows are copied column by column.
+     * If no update changes a row, this table itself is returned.
+     */
+    public BeyonderTable patch(Collection<PlayerPathwayResponse> updates) {
+        Map<String, PlayerPathwayResponse> byName = new HashMap<>();
+        for (PlayerPathwayResponse update : updates) {
+            byName.put(update.getPlayerName(), update);
+        }
+        if (!changes(byName)) {
+            return this;
+        }
+
+        List<PlayerPathwayResponse> inserted = new ArrayList<>(byName.size());
+        for (PlayerPathwayResponse update : byName.values()) {
+            if (isStored(update)) {
+                inserted.add(update);
+            }
+        }
+        inserted.sort(Comparator.comparing(PlayerPathwayResponse::getPlayerName, NAME_ORDER));
+
+        Encoder encoder = new Encoder(names.length + inserted.size());
+        encoder.adopt(pathways);
+
+        int next = 0;
+        for (int row = 0; row < names.length; row++) {
+            while (next < inserted.size() && NAME_ORDER.compare(inserted.get(next).getPlayerName(), names[row]) < 0) {
+                encoder.add(inserted.get(next++));
+            }
+            if (!byName.containsKey(names[row])) {
+                encoder.copy(this, row);
+            }
+        }
+        while (next < inserted.size()) {
+            encoder.add(inserted.get(next++));
+        }
+        return encoder.finish();
+    }
+
+    private boolean changes(Map<String, PlayerPathwayResponse> byName) {
+        for (PlayerPathwayResponse update : byName.values()) {
+            int row = find(update.getPlayerName());
+            if (!isStored(update)) {
+                if (row >= 0) {
+                    return true;
+                }
+            } else if (row < 0
+                       || !pathway(row).equals(update.getPathway())
+                       || sequences[row] != Encoder.encodeSequence(update.getSequence())
+                       || Double.compare(acting[row], Encoder.parseActing(update.getActing())) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isStored(PlayerPathwayResponse player) {
+        return Boolean.TRUE.equals(player.getBeyonder()) && player.getPathway() != null;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * @return Row of the player, or -1 if they are not a beyonder in this table
+     */
+    public int find(String playerName) {
+        int row = Arrays.binarySearch(names, playerName, NAME_ORDER);
+        return row >= 0 ? row : -1;
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+
+    public int pathwayId(int row) {
+        return pathwayIds[row] & 0xFF;
+    }
+
+    public String pathway(int row) {
+        return pathways[pathwayId(row)];
+    }
+
+    /**
+     * @return Sequence, or {@link #NO_SEQUENCE} if unknown
+     */
+    public int sequence(int row) {
+        return sequences[row];
+    }
+
+    /**
+     * @return Acting ratio, or NaN if unknown
+     */
+    public double acting(int row) {
+        return acting[row];
+    }
+
+    /**
+     * @return Distinct pathway names, indexed by pathway id
+     */
+    public List<String> pathways() {
+        return List.of(pathways);
+    }
+
+    /**
+     * @return Response object for the player, or null if they are not in this table
+     */
+    public PlayerPathwayResponse get(String playerName) {
+        int row = find(playerName);
+        return row >= 0 ? get(row) : null;
+    }
+
+    public PlayerPathwayResponse get(int row) {
+        int sequence = sequences[row];
+        double value = acting[row];
+        return PlayerPathwayResponse.builder()
+                .playerName(names[row])
+                .beyonder(true)
+                .pathway(pathway(row))
+                .sequence(sequence == NO_SEQUENCE ? null : SEQUENCE_TEXT[sequence])
+                .acting(Double.isNaN(value) ? null : PathwayUtil.formatActing(value))
+                .build();
+    }
+
+    /**
+     * @return Response objects for every row, in row order
+     */
+    public List<PlayerPathwayResponse> materialize() {
+        List<PlayerPathwayResponse> rows = new ArrayList<>(names.length);
+        for (int row = 0; row < names.length; row++) {
+            rows.add(get(row));
+        }
+        return rows;
+    }
+
+    /**
+     * @return SHA-256 over every row's name, pathway, sequence and acting ratio; equal for tables with equal contents
+     */
+    public byte[] contentDigest() {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        for (int row = 0; row < names.length; row++) {
+            digest.update(names[row].getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(pathway(row).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(sequences[row]);
+            long bits = Double.doubleToLongBits(acting[row]);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                digest.update((byte) (bits >>> shift));
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Appends rows to fresh columns, growing the pathway dictionary as new pathways appear
+     */
+    private static final class Encoder {
+
+        private final Map<String, Integer> pathwayIds = new HashMap<>();
+        private final List<String> pathways = new ArrayList<>();
+        private final String[] names;
+        private final byte[] ids;
+        private final byte[] sequences;
+        private final double[] acting;
+        private int size;
+
+        private Encoder(int capacity) {
+            this.names = new String[capacity];
+            this.ids = new byte[capacity];
+            this.sequences = new byte[capacity];
+            this.acting = new double[capacity];
+        }
+
+        private void adopt(String[] dictionary) {
+            for (String pathway : dictionary) {
+                pathwayIds.put(pathway, pathways.size());
+                pathways.add(pathway);
+            }
+        }
+
+        private void add(PlayerPathwayResponse beyonder) {
+            names[size] = beyonder.getPlayerName().intern();
+            ids[size] = (byte) pathwayId(beyonder.getPathway());
+            sequences[size] = encodeSequence(beyonder.getSequence());
+            acting[size] = parseActing(beyonder.getActing());
+            size++;
+        }
+
+        private void copy(BeyonderTable table, int row) {
+            names[size] = table.names[row];
+            // The dictionary was adopted from this table, so ids carry over unchanged
+            ids[size] = table.pathwayIds[row];
+            sequences[size] = table.sequences[row];
+            acting[size] = table.acting[row];
+            size++;
+        }
+
+        private int pathwayId(String pathway) {
+            Integer id = pathwayIds.get(pathway);
+            if (id == null) {
+                if (pathways.size() == MAX_PATHWAYS) {
+                    throw new IllegalStateException("More than " + MAX_PATHWAYS + " distinct pathways");
+                }
+                id = pathways.size();
+                pathwayIds.put(pathway, id);
+                pathways.add(pathway.intern());
+            }
+            return id;
+        }
+
+        private BeyonderTable finish() {
+            // Pathways that no longer have any row stay in the dictionary; it is tiny and bounded
+            return new BeyonderTable(pathways.toArray(new String[0]),
+                    Arrays.copyOf(names, size), Arrays.copyOf(ids, size),
+                    Arrays.copyOf(sequences, size), Arrays.copyOf(acting, size));
+        }
+
+        private static byte encodeSequence(String sequence) {
+            if (sequence == null) {
+                return NO_SEQUENCE;
+            }
+            try {
+                int value = Integer.parseInt(sequence);
+                return value >= 0 && value <= Byte.MAX_VALUE ? (byte) value : NO_SEQUENCE;
+            } catch (NumberFormatException e) {
+                return NO_SEQUENCE;
+            }
+        }
+
+        private static double parseActing(String acting) {
+            if (acting == null) {
+                return Double.NaN;
+            }
+            try {
+                return Double.parseDouble(acting);
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package net.mysterria.reporter.manager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bounded ring buffer of per-player changes between consecutive everyone snapshots.
+ * Every record carries the version of the snapshot that introduced it, so a client
+ * holding version N can catch up by applying the records after N. Once a record is
+ * overwritten, clients older than it can no longer catch up and have to resync.
+ */
+public class ChangeFeed {
+
+    public enum Type {
+        ADDED, REMOVED, CHANGED
+    }
+
+    public static final int FIELD_PATHWAY = 1;
+    public static final int FIELD_SEQUENCE = 1 << 1;
+    public static final int FIELD_ACTING = 1 << 2;
+
+    /**
+     * One player's change. Values of a side that does not exist (before ADDED, after REMOVED)
+     * are null, {@link BeyonderTable#NO_SEQUENCE} and NaN.
+     * @param fields Bit set of FIELD_* constants that differ
+     */
+    public record Change(long version, String playerName, Type type, int fields,
+                         String pathway, int sequence, double acting,
+                         String previousPathway, int previousSequence, double previousActing) {
+    }
+
+    /**
+     * @param changes Changes after the requested version, oldest first, whole versions only
+     * @param version Version the client holds after applying the changes
+     * @param resync True if the requested version is too old (or unknown) and the client must refetch everything
+     * @param hasMore True if the limit cut off later versions
+     */
+    public record Changes(List<Change> changes, long version, boolean resync, boolean hasMore) {
+    }
+
+    private final Change[] buffer;
+    private int head;
+    private int size;
+    private long coveredFrom = Long.MAX_VALUE;
+    private long latestVersion;
+
+    public ChangeFeed(int capacity) {
+        this.buffer = new Change[Math.max(1, capacity)];
+    }
+
+    /**
+     * Starts over from a snapshot without a known predecessor. Only clients at exactly this version can follow on.
+     */
+    public synchronized void reset(long version) {
+        Arrays.fill(buffer, null);
+        head = 0;
+        size = 0;
+        coveredFrom = version;
+        latestVersion = version;
+    }
+
+    /**
+     * Records the differences between two consecutive snapshot tables
+     * @param changed Players that may differ, or null to compare every row
+     */
+    public synchronized void record(long version, BeyonderTable previous, BeyonderTable next, Collection<String> changed) {
+        if (changed != null) {
+            for (String playerName : changed) {
+                int before = previous.find(playerName);
+                int after = next.find(playerName);
+                append(version, playerName, previous, before, next, after);
+            }
+        } else {
+            // Both tables are in name order, so one merge pass finds every difference
+            int before = 0;
+            int after = 0;
+            while (before < previous.size() || after < next.size()) {
+                int order = before == previous.size() ? 1
+                        : after == next.size() ? -1
+                        : BeyonderTable.NAME_ORDER.compare(previous.name(before), next.name(after));
+                if (order < 0) {
+                    append(version, previous.name(before), previous, before++, next, -1);
+                } else if (order > 0) {
+                    append(version, next.name(after), previous, -1, next, after++);
+                } else {
+                    append(version, next.name(after), previous, before++, next, after++);
+                }
+            }
+        }
+        latestVersion = version;
+    }
+
+    private void append(long version, String playerName, BeyonderTable previous, int before, BeyonderTable next, int after) {
+        if (before < 0 && after < 0) {
+            return;
+        }
+
+        String pathway = after >= 0 ? next.pathway(after) : null;
+        int sequence = after >= 0 ? next.sequence(after) : BeyonderTable.NO_SEQUENCE;
+        double acting = after >= 0 ? next.acting(after) : Double.NaN;
+        String previousPathway = before >= 0 ? previous.pathway(before) : null;
+        int previousSequence = before >= 0 ? previous.sequence(before) : BeyonderTable.NO_SEQUENCE;
+        double previousActing = before >= 0 ? previous.acting(before) : Double.NaN;
+
+        int fields = 0;
+        if (!Objects.equals(pathway, previousPathway)) {
+            fields |= FIELD_PATHWAY;
+        }
+        if (sequence != previousSequence) {
+            fields |= FIELD_SEQUENCE;
+        }
+        if (Double.compare(acting, previousActing) != 0) {
+            fields |= FIELD_ACTING;
+        }
+        if (fields == 0) {
+            return;
+        }
+
+        Type type = before < 0 ? Type.ADDED : after < 0 ? Type.REMOVED : Type.CHANGED;
+        Change change = new Change(version, playerName, type, fields,
+                pathway, sequence, acting, previousPathway, previousSequence, previousActing);
+
+        if (size == buffer.length) {
+            // Clients at a version older than the overwritten record would miss it
+            coveredFrom = Math.max(coveredFrom, buffer[head].version());
+            buffer[head] = change;
+            head = (head + 1) % buffer.length;
+        } else {
+            buffer[(head + size) % buffer.length] = change;
+            size++;
+        }
+    }
+
+    /**
+     * @param since Version the client currently holds
+     * @param limit Soft cap on returned records; a single version is never split
+     */
+    public synchronized Changes since(long since, int limit) {
+        if (since < coveredFrom || since > latestVersion) {
+            return new Changes(List.of(), latestVersion, true, false);
+        }
+
+        int first = firstAfter(since);
+        List<Change> changes = new ArrayList<>();
+        long version = latestVersion;
+        for (int i = first; i < size; i++) {
+            Change change = buffer[(head + i) % buffer.length];
+            if (changes.size() >= limit && change.version() != changes.get(changes.size() - 1).version()) {
+                return new Changes(changes, changes.get(changes.size() - 1).version(), false, true);
+            }
+            changes.add(change);
+        }
+        return new Changes(changes, version, false, false);
+    }
+
+    /**
+     * @return Position of the first record newer than the version, found by binary search since versions only grow
+     */
+    private int firstAfter(long version) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer[(head + mid) % buffer.length].version() <= version) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * @return Oldest version a client can catch up from
+     */
+    public synchronized long getCoveredFrom() {
+        return coveredFrom;
+    }
+}
@@ -0,0 +1,189 @@
+package net.mysterria.reporter.manager;
+
+import dev.ua.ikeepcalm.catwalk.bridge.source.BridgeApiResponse;
+import net.mysterria.reporter.model.EveryonePathwayResponse;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Holds the published everyone snapshot. At most one build runs at a time: asking for a
+ * build while one is in flight returns that build's future instead of starting another.
+ * A finished build is published with a single volatile write together with its response,
+ * serialized payload, index and version, so readers never see a partially built snapshot.
+ */
+public class EveryoneSnapshotHolder {
+
+    private final Executor executor;
+    private final PathwayStatistics statistics;
+    private final ChangeFeed changes;
+    private final Consumer<Snapshot> afterPublish;
+    // Seeded from the clock so versions keep increasing across restarts and change feed clients never see one reused
+    private final AtomicLong versions = new AtomicLong(System.currentTimeMillis());
+
+    private volatile Snapshot current;
+    private CompletableFuture<Snapshot> inFlight;
+    private int generation;
+
+    /**
+     * One published snapshot
+     * @param version Increases with every publish
+     * @param builtAt Epoch millis at which the build finished
+     * @param table Beyonders in columnar form
+     */
+    public record Snapshot(long version, long builtAt,
+                           BeyonderTable table,
+                           SerializedPayload payload,
+                           PathwayIndex index) {
+
+        /**
+         * Materializes the full response; prefer {@link #payload()} or {@link #table()} on hot paths
+         */
+        public EveryonePathwayResponse response() {
+            return toResponse(version, builtAt, table);
+        }
+    }
+
+    /**
+     * Result of a build
+     * @param table Beyonders of the new snapshot
+     * @param changed Players whose entries may differ from the previous snapshot, or null if any may have
+     */
+    public record Build(BeyonderTable table, Collection<String> changed) {
+    }
+
+    @FunctionalInterface
+    public interface Builder {
+
+        /**
+         * @param previous Currently published snapshot, or null if there is none
+         * @return The next snapshot's entries, or null to keep the current snapshot
+         */
+        Build build(Snapshot previous) throws Exception;
+    }
+
+    public EveryoneSnapshotHolder(Executor executor, PathwayStatistics statistics, ChangeFeed changes,
+                                  Consumer<Snapshot> afterPublish) {
+        this.executor = executor;
+        this.statistics = statistics;
+        this.changes = changes;
+        this.afterPublish = afterPublish;
+    }
+
+    public Snapshot current() {
+        return current;
+    }
+
+    /**
+     * Starts a build on the executor, or joins the one already in flight
+     * @return Future completed with the snapshot published by that build
+     */
+    public synchronized CompletableFuture<Snapshot> build(Builder builder) {
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        int startedIn = generation;
+        CompletableFuture<Snapshot> future = CompletableFuture.supplyAsync(() -> {
+            Snapshot previous = current;
+            Build build;
+            try {
+                build = builder.build(previous);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+
+            if (build == null) {
+                return previous;
+            }
+
+            Snapshot snapshot = install(create(build.table()), build.changed(), startedIn);
+            if (snapshot == current) {
+                afterPublish.accept(snapshot);
+            }
+            return snapshot;
+        }, executor);
+
+        inFlight = future;
+        future.whenComplete((snapshot, error) -> finished(future));
+        return future;
+    }
+
+    /**
+     * Publishes a table directly, without going through a build. Used to restore a persisted snapshot.
+     */
+    public Snapshot publish(BeyonderTable table) {
+        int startedIn;
+        synchronized (this) {
+            startedIn = generation;
+        }
+        return install(create(table), null, startedIn);
+    }
+
+    /**
+     * Drops the published snapshot and statistics. A build still in flight is no longer shared
+     * and its result is not published.
+     */
+    public synchronized void clear() {
+        generation++;
+        inFlight = null;
+        current = null;
+        statistics.clear();
+    }
+
+    private synchronized void finished(CompletableFuture<Snapshot> future) {
+        if (inFlight == future) {
+            inFlight = null;
+        }
+    }
+
+    private synchronized Snapshot install(Snapshot snapshot, Collection<String> changed, int startedIn) {
+        if (startedIn != generation) {
+            return snapshot;
+        }
+
+        BeyonderTable next = snapshot.table();
+        if (current == null) {
+            statistics.reset(next);
+            changes.reset(snapshot.version());
+        } else if (changed == null) {
+            statistics.reset(next);
+            changes.record(snapshot.version(), current.table(), next, null);
+        } else {
+            BeyonderTable previous = current.table();
+            for (String playerName : changed) {
+                statistics.replace(previous.get(playerName), next.get(playerName));
+            }
+            changes.record(snapshot.version(), previous, next, changed);
+        }
+
+        current = snapshot;
+        return snapshot;
+    }
+
+    private Snapshot create(BeyonderTable table) {
+        long version = versions.incrementAndGet();
+        long builtAt = System.currentTimeMillis();
+
+        // Response objects only live for the duration of serialization. The ETag follows the rows only,
+        // so a rebuild that found nothing new still answers pollers with 304
+        SerializedPayload payload = SerializedPayload.of(BridgeApiResponse.success(toResponse(version, builtAt, table)),
+                table.contentDigest());
+        return new Snapshot(version, builtAt, table, payload, PathwayIndex.build(table));
+    }
+
+    private static EveryonePathwayResponse toResponse(long version, long builtAt, BeyonderTable table) {
+        return EveryonePathwayResponse.builder()
+                .amount(table.size())
+                .version(version)
+                .builtAt(builtAt)
+                .beyonder(table.materialize())
+                .build();
+    }
+}
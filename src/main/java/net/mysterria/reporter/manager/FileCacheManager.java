@@ -0,0 +1,209 @@
+package net.mysterria.reporter.manager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import net.mysterria.reporter.MysterriaReporter;
+import net.mysterria.reporter.util.FileReaderUtil;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the contents of COI data files (beyonder and artifact YAML) within a byte
+ * budget. Every hit is validated with a single attribute read against the file's size
+ * and modification time, and files that do not exist are remembered for a short while
+ * so repeated lookups of unknown names never touch the disk. Parsed YAML trees are
+ * cached alongside and reused for as long as the file version they came from.
+ */
+public class FileCacheManager {
+
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private final MysterriaReporter plugin;
+    private final Path serverRoot = Paths.get("").toAbsolutePath();
+    private final Cache<String, CachedFile> contentCache;
+    private final Cache<String, Boolean> missingCache;
+    private final Cache<String, ParsedFile> parsedCache;
+
+    private record ParsedFile(long size, long modified, Object tree) {
+    }
+
+    /**
+     * One cached file version
+     * @param content File contents
+     * @param size File size in bytes when read
+     * @param modified Last modification time in milliseconds when read
+     */
+    public record CachedFile(String content, long size, long modified) {
+
+        private int weight() {
+            return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD + content.length() * 2L);
+        }
+    }
+
+    public FileCacheManager(MysterriaReporter plugin) {
+        this.plugin = plugin;
+
+        FileConfiguration config = plugin.getConfig();
+        long budgetBytes = config.getLong("files.cache-budget-mb", 16) * 1024L * 1024L;
+        int negativeTTL = config.getInt("files.negative-ttl-seconds", 10);
+
+        this.contentCache = budgetBytes > 0
+                ? Caffeine.newBuilder()
+                        .maximumWeight(budgetBytes)
+                        .weigher((String path, CachedFile file) -> file.weight())
+                        .recordStats()
+                        .build()
+                : null;
+        this.missingCache = negativeTTL > 0
+                ? Caffeine.newBuilder()
+                        .expireAfterWrite(negativeTTL, TimeUnit.SECONDS)
+                        .maximumSize(10_000)
+                        .recordStats()
+                        .build()
+                : null;
+        this.parsedCache = Caffeine.newBuilder()
+                .maximumSize(config.getInt("files.max-parsed-entries", 1000))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Reads a file through the cache
+     * @param relativePath Path relative to server root, built from a sanitized name
+     * @return File contents as string, or null if file doesn't exist or error occurs
+     */
+    public String readYamlFile(String relativePath) {
+        CachedFile file = read(relativePath);
+        return file != null ? file.content() : null;
+    }
+
+    /**
+     * Reads a file through the cache, including the version it was read at
+     * @param relativePath Path relative to server root, built from a sanitized name
+     * @return Cached file, or null if file doesn't exist or error occurs
+     */
+    public CachedFile read(String relativePath) {
+        if (missingCache != null && missingCache.getIfPresent(relativePath) != null) {
+            return null;
+        }
+
+        Path filePath = serverRoot.resolve(relativePath);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return markMissing(relativePath, filePath);
+            }
+
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().toMillis();
+            if (contentCache != null) {
+                CachedFile cached = contentCache.getIfPresent(relativePath);
+                if (cached != null && cached.size() == size && cached.modified() == modified) {
+                    return cached;
+                }
+            }
+
+            CachedFile loaded = new CachedFile(Files.readString(filePath), size, modified);
+            FileReaderUtil.recordBytesRead(size);
+            if (contentCache != null) {
+                contentCache.put(relativePath, loaded);
+            }
+            return loaded;
+        } catch (NoSuchFileException e) {
+            return markMissing(relativePath, filePath);
+        } catch (IOException e) {
+            plugin.getLogger().severe("Error reading file: " + relativePath);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Reads and parses a YAML file, parsing each file version at most once
+     * @param relativePath Path relative to server root, built from a sanitized name
+     * @return Parsed document (maps, lists and scalars), or null if file doesn't exist or can't be parsed
+     */
+    public Object readYamlTree(String relativePath) {
+        CachedFile file = read(relativePath);
+        if (file == null) {
+            return null;
+        }
+
+        ParsedFile parsed = parsedCache.getIfPresent(relativePath);
+        if (parsed != null && parsed.size() == file.size() && parsed.modified() == file.modified()) {
+            return parsed.tree();
+        }
+
+        try {
+            Object tree = new Yaml(new SafeConstructor(new LoaderOptions())).load(file.content());
+            parsedCache.put(relativePath, new ParsedFile(file.size(), file.modified(), tree));
+            return tree;
+        } catch (YAMLException e) {
+            plugin.getLogger().warning("Failed to parse YAML file " + relativePath + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public void invalidate(String relativePath) {
+        parsedCache.invalidate(relativePath);
+        if (contentCache != null) {
+            contentCache.invalidate(relativePath);
+        }
+        if (missingCache != null) {
+            missingCache.invalidate(relativePath);
+        }
+    }
+
+    public void invalidateAll() {
+        parsedCache.invalidateAll();
+        if (contentCache != null) {
+            contentCache.invalidateAll();
+        }
+        if (missingCache != null) {
+            missingCache.invalidateAll();
+        }
+    }
+
+    public long getCachedFileCount() {
+        return contentCache != null ? contentCache.estimatedSize() : 0;
+    }
+
+    public long getMissingFileCount() {
+        return missingCache != null ? missingCache.estimatedSize() : 0;
+    }
+
+    public CacheStats getContentCacheStats() {
+        return contentCache != null ? contentCache.stats() : CacheStats.empty();
+    }
+
+    public CacheStats getParsedCacheStats() {
+        return parsedCache.stats();
+    }
+
+    public CacheStats getMissingCacheStats() {
+        return missingCache != null ? missingCache.stats() : CacheStats.empty();
+    }
+
+    private CachedFile markMissing(String relativePath, Path filePath) {
+        if (missingCache != null) {
+            missingCache.put(relativePath, Boolean.TRUE);
+        }
+        if (contentCache != null) {
+            contentCache.invalidate(relativePath);
+        }
+        plugin.getLogger().warning("File not found: " + filePath);
+        return null;
+    }
+}
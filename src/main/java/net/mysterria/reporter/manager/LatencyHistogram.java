@@ -0,0 +1,128 @@
+package net.mysterria.reporter.manager;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket duration histogram in the Prometheus layout. Recording is a short
+ * bucket scan and two {@link LongAdder} increments, so it is safe on every request.
+ */
+public class LatencyHistogram {
+
+    /** Bucket upper bounds in seconds for request handling */
+    public static final double[] REQUEST_BUCKETS = {
+            0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+
+    /** Bucket upper bounds in seconds for background scans */
+    public static final double[] SCAN_BUCKETS = {
+            0.01, 0.05, 0.1, 0.5, 1, 2.5, 5, 10, 30, 60, 120, 300
+    };
+
+    private final double[] bounds;
+    private final long[] boundNanos;
+    private final LongAdder[] counts;
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram(double[] bounds) {
+        this.bounds = bounds.clone();
+        this.boundNanos = new long[bounds.length];
+        this.counts = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < bounds.length; i++) {
+            boundNanos[i] = (long) (bounds[i] * TimeUnit.SECONDS.toNanos(1));
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int bucket = 0;
+        while (bucket < boundNanos.length && nanos > boundNanos[bucket]) {
+            bucket++;
+        }
+        counts[bucket].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * Records the time elapsed since a {@link System#nanoTime()} reading
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder adder : counts) {
+            count += adder.sum();
+        }
+        return count;
+    }
+
+    public double getSumSeconds() {
+        return sumNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * @param quantile Between 0 and 1
+     * @return Upper bound in seconds of the bucket holding the quantile, +Inf if it is past the
+     *         last bound, or NaN if nothing was recorded
+     */
+    public double getQuantile(double quantile) {
+        long[] snapshot = snapshotCounts();
+        long total = 0;
+        for (long count : snapshot) {
+            total += count;
+        }
+        if (total == 0) {
+            return Double.NaN;
+        }
+
+        long rank = (long) Math.ceil(quantile * total);
+        long cumulative = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= rank) {
+                return bounds[i];
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Appends this histogram in Prometheus text format
+     * @param name Metric name without suffixes
+     * @param labels Label pairs without braces (e.g. {@code endpoint="everyone"}), or empty
+     */
+    public void writePrometheus(StringBuilder out, String name, String labels) {
+        long[] snapshot = snapshotCounts();
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+
+        long cumulative = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += snapshot[i];
+            out.append(name).append("_bucket{").append(prefix).append("le=\"").append(formatBound(bounds[i])).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        cumulative += snapshot[bounds.length];
+        out.append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ").append(cumulative).append('\n');
+
+        String suffix = labels.isEmpty() ? " " : "{" + labels + "} ";
+        out.append(name).append("_sum").append(suffix).append(getSumSeconds()).append('\n');
+        out.append(name).append("_count").append(suffix).append(cumulative).append('\n');
+    }
+
+    private static String formatBound(double bound) {
+        return BigDecimal.valueOf(bound).stripTrailingZeros().toPlainString();
+    }
+
+    private long[] snapshotCounts() {
+        long[] snapshot = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            snapshot[i] = counts[i].sum();
+        }
+        return snapshot;
+    }
+}
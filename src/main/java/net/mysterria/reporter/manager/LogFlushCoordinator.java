@@ -0,0 +1,120 @@
+package net.mysterria.reporter.manager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.mysterria.reporter.MysterriaReporter;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coalesces "coi flush" requests for log reads. Requests for the same player share
+ * one pending flush, all pending flushes run in a single main-thread task, and a
+ * player flushed within the configured window is not flushed again.
+ */
+public class LogFlushCoordinator {
+
+    private final MysterriaReporter plugin;
+    private final long timeoutMillis;
+
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    // Players flushed within the window; entries expire with it, so names read once do not pile up
+    private final Cache<String, Boolean> recentFlushes;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    public LogFlushCoordinator(MysterriaReporter plugin) {
+        this.plugin = plugin;
+
+        FileConfiguration config = plugin.getConfig();
+        this.timeoutMillis = config.getLong("logs.flush-timeout-ms", 500);
+        this.recentFlushes = Caffeine.newBuilder()
+                .expireAfterWrite(Math.max(0, config.getLong("logs.flush-window-ms", 1000)), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Requests a flush of the player's COI log, reusing a pending or recent one
+     * @param playerName Sanitized player name
+     * @return Future completed once the flush has run on the main thread
+     */
+    public CompletableFuture<Void> requestFlush(String playerName) {
+        if (recentlyFlushed(playerName)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> flush = pending.computeIfAbsent(playerName, k -> new CompletableFuture<>());
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                Bukkit.getScheduler().runTask(plugin, this::drain);
+            } catch (Exception e) {
+                // Plugin is disabling; nothing will flush, so let readers go ahead
+                drainScheduled.set(false);
+                flush.complete(null);
+            }
+        }
+        return flush;
+    }
+
+    /**
+     * Requests a flush and waits up to the configured timeout for it to complete.
+     * Reading after a timeout is still safe, the log may just miss its newest lines.
+     */
+    public void awaitFlush(String playerName) {
+        if (Bukkit.isPrimaryThread()) {
+            // Waiting for the drain task here would deadlock, so run this player's flush now,
+            // taking over a pending one, unless it already ran within the window
+            CompletableFuture<Void> flush = pending.remove(playerName);
+            if (flush == null) {
+                if (recentlyFlushed(playerName)) {
+                    return;
+                }
+                flush = new CompletableFuture<>();
+            }
+            runFlush(playerName, flush);
+            return;
+        }
+
+        try {
+            requestFlush(playerName).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ignored) {
+            // Read whatever has been written so far
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {
+            // Logged by runFlush; the log can still be read
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+
+        for (String playerName : pending.keySet()) {
+            CompletableFuture<Void> flush = pending.remove(playerName);
+            if (flush != null) {
+                runFlush(playerName, flush);
+            }
+        }
+    }
+
+    private boolean recentlyFlushed(String playerName) {
+        return recentFlushes.getIfPresent(playerName) != null;
+    }
+
+    private void runFlush(String playerName, CompletableFuture<Void> flush) {
+        try {
+            Bukkit.getServer().dispatchCommand(Bukkit.getConsoleSender(), "coi flush " + playerName);
+            recentFlushes.put(playerName, Boolean.TRUE);
+            flush.complete(null);
+        } catch (Exception e) {
+            plugin.getLogger().warning("Log flush failed for " + playerName + ": " + e.getMessage());
+            flush.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package net.mysterria.reporter.manager;
+
+import net.mysterria.reporter.MysterriaReporter;
+import net.mysterria.reporter.util.FileReaderUtil;
+import net.mysterria.reporter.util.LogCursor;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Follows COI log files for live subscribers. A single watcher thread reads each
+ * followed file once per change and fans the new lines out to every subscriber of
+ * that file through bounded queues; a subscriber that falls behind is dropped
+ * instead of buffering without limit.
+ */
+public class LogFollowManager {
+
+    private static final String LOG_DIRECTORY = "plugins/CircleOfImagination/logs/";
+    private static final int READ_BATCH_LINES = 500;
+
+    private final MysterriaReporter plugin;
+    private final int maxSubscribers;
+    private final int maxSubscribersPerPlayer;
+    private final int bufferEvents;
+    private final long pollIntervalMillis;
+
+    private final Map<String, FollowedFile> followed = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private Thread watcherThread;
+    private volatile WatchService watchService;
+    private volatile boolean running;
+
+    /**
+     * One batch of lines pushed to subscribers
+     * @param lines New lines in file order
+     * @param cursor Cursor just past these lines, usable as an SSE event id
+     * @param reset True if the file was rotated or truncated before these lines
+     */
+    public record LogEvent(List<String> lines, String cursor, boolean reset) {
+    }
+
+    public final class Subscription implements AutoCloseable {
+
+        private final FollowedFile file;
+        private final BlockingQueue<LogEvent> queue = new ArrayBlockingQueue<>(bufferEvents);
+        private volatile boolean overflowed;
+        private volatile boolean closed;
+
+        private Subscription(FollowedFile file) {
+            this.file = file;
+        }
+
+        private void offer(LogEvent event) {
+            if (!queue.offer(event)) {
+                overflowed = true;
+            }
+        }
+
+        /**
+         * @return Next event, or null if none arrived within the timeout
+         */
+        public LogEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+            return queue.poll(timeout, unit);
+        }
+
+        public boolean isOverflowed() {
+            return overflowed;
+        }
+
+        public boolean isActive() {
+            return running && !closed && !overflowed;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscriberCount.decrementAndGet();
+            // Same lock as subscribe, so a subscriber joining now never lands on an entry being removed
+            synchronized (file) {
+                file.subscribers.remove(this);
+                if (file.subscribers.isEmpty()) {
+                    followed.remove(file.playerName, file);
+                }
+            }
+        }
+    }
+
+    private static final class FollowedFile {
+
+        private final String playerName;
+        private final String relativePath;
+        private final List<Subscription> subscribers = new CopyOnWriteArrayList<>();
+        private String cursor;
+
+        private FollowedFile(String playerName) {
+            this.playerName = playerName;
+            this.relativePath = LOG_DIRECTORY + playerName + ".log";
+        }
+    }
+
+    public LogFollowManager(MysterriaReporter plugin) {
+        this.plugin = plugin;
+
+        FileConfiguration config = plugin.getConfig();
+        this.maxSubscribers = config.getInt("logs.follow.max-subscribers", 32);
+        this.maxSubscribersPerPlayer = config.getInt("logs.follow.max-subscribers-per-player", 4);
+        this.bufferEvents = Math.max(1, config.getInt("logs.follow.buffer-events", 256));
+        this.pollIntervalMillis = Math.max(100, config.getLong("logs.follow.poll-interval-ms", 1000));
+    }
+
+    /**
+     * Subscribes to a player's log. The first event holds the backlog: lines after the
+     * given cursor, or the last backlogLines lines if there is no usable cursor.
+     * @param playerName Sanitized player name
+     * @param cursor Cursor from a previous event (e.g. SSE Last-Event-ID), may be null
+     * @param backlogLines Maximum number of lines to send before live lines
+     * @return Subscription, or null if a subscriber limit has been reached
+     */
+    public Subscription subscribe(String playerName, String cursor, int backlogLines) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+
+        ensureWatcher();
+
+        while (true) {
+            FollowedFile file = followed.computeIfAbsent(playerName, FollowedFile::new);
+            synchronized (file) {
+                if (followed.get(playerName) != file) {
+                    // Last subscriber left while we were waiting; start over with a fresh entry
+                    continue;
+                }
+                if (file.subscribers.size() >= maxSubscribersPerPlayer) {
+                    subscriberCount.decrementAndGet();
+                    return null;
+                }
+
+                // Bring existing subscribers up to date first, so the backlog ends exactly where live events start
+                catchUp(file);
+
+                Subscription subscription = new Subscription(file);
+                subscription.offer(readBacklog(file, cursor, backlogLines));
+                file.subscribers.add(subscription);
+                return subscription;
+            }
+        }
+    }
+
+    private LogEvent readBacklog(FollowedFile file, String cursor, int backlogLines) {
+        LogCursor shared = LogCursor.decode(file.cursor);
+        long end = shared != null ? shared.offset() : 0;
+
+        FileReaderUtil.LogChunk chunk = FileReaderUtil.readLinesSince(file.relativePath, cursor, backlogLines, end);
+        LogCursor reached = LogCursor.decode(chunk.cursor());
+        if (cursor != null && reached != null && reached.offset() < end) {
+            // Too far behind to replay everything; send the most recent lines instead
+            chunk = FileReaderUtil.readLinesSince(file.relativePath, null, backlogLines, end);
+            return new LogEvent(chunk.lines(), chunk.cursor(), true);
+        }
+        return new LogEvent(chunk.lines(), chunk.cursor() != null ? chunk.cursor() : file.cursor, chunk.reset());
+    }
+
+    /**
+     * Reads everything appended since the shared cursor and hands it to all subscribers
+     */
+    private void catchUp(FollowedFile file) {
+        Path path = Paths.get("").toAbsolutePath().resolve(file.relativePath);
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+
+        if (file.cursor == null) {
+            // First sight of the file: start following from its current end
+            file.cursor = FileReaderUtil.readLinesSince(file.relativePath, null, 0).cursor();
+            return;
+        }
+
+        while (true) {
+            FileReaderUtil.LogChunk chunk = FileReaderUtil.readLinesSince(file.relativePath, file.cursor, READ_BATCH_LINES);
+            if (chunk.cursor() == null) {
+                return;
+            }
+            file.cursor = chunk.cursor();
+            if (chunk.lines().isEmpty() && !chunk.reset()) {
+                return;
+            }
+
+            LogEvent event = new LogEvent(chunk.lines(), chunk.cursor(), chunk.reset());
+            for (Subscription subscription : file.subscribers) {
+                subscription.offer(event);
+            }
+            if (chunk.lines().size() < READ_BATCH_LINES) {
+                return;
+            }
+        }
+    }
+
+    private synchronized void ensureWatcher() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        watcherThread = new Thread(this::watchLoop, "MysterriaReporter-LogFollow");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    private void watchLoop() {
+        Path logDirectory = Paths.get("").toAbsolutePath().resolve(LOG_DIRECTORY);
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            logDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Log watch service unavailable, polling every " + pollIntervalMillis + "ms: " + e.getMessage());
+            watchService = null;
+        }
+
+        long pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pollIntervalMillis);
+        long nextPass = System.nanoTime() + pollIntervalNanos;
+        while (running) {
+            try {
+                long waitMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextPass - System.nanoTime()));
+                WatchKey key = null;
+                if (watchService != null) {
+                    key = watchService.poll(waitMillis, TimeUnit.MILLISECONDS);
+                } else {
+                    Thread.sleep(waitMillis);
+                }
+
+                boolean overflowed = false;
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            overflowed = true;
+                        } else if (event.context() instanceof Path changed) {
+                            String fileName = changed.getFileName().toString();
+                            if (fileName.endsWith(".log")) {
+                                FollowedFile file = followed.get(fileName.substring(0, fileName.length() - 4));
+                                if (file != null) {
+                                    catchUpLocked(file);
+                                }
+                            }
+                        }
+                    }
+                    key.reset();
+                }
+
+                // Periodic pass covers missed or coalesced events. It runs on elapsed time, because other
+                // players' logs keep the watch service busy, and right away when events were dropped
+                if (overflowed || System.nanoTime() - nextPass >= 0) {
+                    followed.values().forEach(this::catchUpLocked);
+                    nextPass = System.nanoTime() + pollIntervalNanos;
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error while following logs: " + e.getMessage());
+            }
+        }
+    }
+
+    private void catchUpLocked(FollowedFile file) {
+        synchronized (file) {
+            catchUp(file);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public void shutdown() {
+        running = false;
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+            }
+        }
+        followed.clear();
+    }
+}
@@ -0,0 +1,222 @@
+package net.mysterria.reporter.manager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.mysterria.reporter.MysterriaReporter;
+import net.mysterria.reporter.util.FileReaderUtil;
+import net.mysterria.reporter.util.LogCursor;
+import net.mysterria.reporter.util.LogTimeIndex;
+import net.mysterria.reporter.util.LogTimestampParser;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Searches COI player logs by time range and text. Each log gets a cached sparse
+ * {@link LogTimeIndex}, so the start of a time range is found by binary search; from
+ * there lines are streamed through a fixed-size buffer until the range ends, the
+ * result limit is reached or the scan budget runs out. In the last two cases a cursor
+ * lets the client continue where the search stopped.
+ */
+public class LogSearchManager {
+
+    private static final String LOG_DIRECTORY = "plugins/CircleOfImagination/logs/";
+    private static final int BLOCK_SIZE = 8192;
+    private static final int MAX_LINE_BYTES = 64 * 1024;
+    private static final String DEFAULT_TIMESTAMP_REGEX = "^\\[([^\\]]+)\\]";
+    private static final String DEFAULT_TIMESTAMP_FORMAT = "yyyy-MM-dd HH:mm:ss";
+
+    private final MysterriaReporter plugin;
+    private final Path serverRoot = Paths.get("").toAbsolutePath();
+    private final LogTimestampParser timestamps;
+    private final int indexInterval;
+    private final long maxScanBytes;
+    private final Cache<String, LogTimeIndex> indices;
+
+    /**
+     * @param from Local epoch seconds of the first included timestamp, or {@link LogTimestampParser#NONE}
+     * @param to Local epoch seconds of the last included timestamp, or {@link LogTimestampParser#NONE}
+     * @param filter Line filter, or null to return every line in the range
+     * @param cursor Cursor returned by a previous search with the same parameters, or null
+     */
+    public record Query(long from, long to, Predicate<String> filter, String cursor, int limit) {
+    }
+
+    /**
+     * @param lines Matching lines in file order
+     * @param found False if the player has no log
+     * @param cursor Cursor to continue the search, or null if the range was scanned completely
+     * @param scannedBytes Bytes read by this search
+     */
+    public record Result(List<String> lines, boolean found, String cursor, long scannedBytes) {
+    }
+
+    public LogSearchManager(MysterriaReporter plugin) {
+        this.plugin = plugin;
+
+        FileConfiguration config = plugin.getConfig();
+        this.timestamps = createParser(config);
+        this.indexInterval = Math.max(4096, config.getInt("logs.search.index-interval-bytes", 65536));
+        this.maxScanBytes = Math.max(BLOCK_SIZE, config.getLong("logs.search.max-scan-bytes", 64L * 1024 * 1024));
+        this.indices = Caffeine.newBuilder()
+                .maximumSize(config.getInt("logs.search.max-indexed-files", 256))
+                .build();
+    }
+
+    private LogTimestampParser createParser(FileConfiguration config) {
+        try {
+            return new LogTimestampParser(
+                    config.getString("logs.search.timestamp-regex", DEFAULT_TIMESTAMP_REGEX),
+                    config.getString("logs.search.timestamp-format", DEFAULT_TIMESTAMP_FORMAT));
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid logs.search timestamp settings, using defaults: " + e.getMessage());
+            return new LogTimestampParser(DEFAULT_TIMESTAMP_REGEX, DEFAULT_TIMESTAMP_FORMAT);
+        }
+    }
+
+    public LogTimestampParser getTimestampParser() {
+        return timestamps;
+    }
+
+    /**
+     * @param playerName Sanitized player name
+     */
+    public Result search(String playerName, Query query) {
+        String relativePath = LOG_DIRECTORY + playerName + ".log";
+        Path filePath = serverRoot.resolve(relativePath);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long fileId = LogCursor.fileId(Files.readAttributes(filePath, BasicFileAttributes.class));
+            long size = channel.size();
+
+            long start = resume(channel, fileId, size, query.cursor());
+            if (start < 0) {
+                start = 0;
+                if (query.from() != LogTimestampParser.NONE) {
+                    start = index(relativePath, channel, fileId, size).startOffset(query.from());
+                }
+            }
+            return scan(channel, fileId, start, size, query);
+        } catch (NoSuchFileException e) {
+            return new Result(List.of(), false, null, 0);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Error searching log " + relativePath + ": " + e.getMessage());
+            return new Result(List.of(), false, null, 0);
+        }
+    }
+
+    /**
+     * @return Offset encoded in a cursor that still matches the file, or -1
+     */
+    private static long resume(FileChannel channel, long fileId, long size, String encodedCursor) throws IOException {
+        LogCursor cursor = LogCursor.decode(encodedCursor);
+        if (cursor == null || cursor.fileId() != fileId || cursor.offset() > size
+            || cursor.headHash() != FileReaderUtil.headHash(channel, cursor.offset())) {
+            return -1;
+        }
+        return cursor.offset();
+    }
+
+    private LogTimeIndex index(String relativePath, FileChannel channel, long fileId, long size) throws IOException {
+        LogTimeIndex current = indices.getIfPresent(relativePath);
+        LogTimeIndex extended = LogTimeIndex.extend(current, channel, fileId, size, indexInterval, timestamps);
+        if (extended != current) {
+            indices.put(relativePath, extended);
+        }
+        return extended;
+    }
+
+    private Result scan(FileChannel channel, long fileId, long start, long size, Query query) throws IOException {
+        List<String> lines = new ArrayList<>();
+        ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+        ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        long position = start;
+        long consumed = start;
+        long lineTime = LogTimestampParser.NONE;
+
+        while (position < size) {
+            if (position - start >= maxScanBytes) {
+                return stopped(channel, fileId, lines, consumed, position - start);
+            }
+
+            block.clear().limit((int) Math.min(BLOCK_SIZE, size - position));
+            FileReaderUtil.readFully(channel, block, position);
+            byte[] bytes = block.array();
+            int length = block.limit();
+
+            int segmentStart = 0;
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != '\n') {
+                    continue;
+                }
+
+                String line;
+                if (pending.size() > 0) {
+                    appendCapped(pending, bytes, segmentStart, i - segmentStart);
+                    byte[] joined = pending.toByteArray();
+                    line = FileReaderUtil.decodeLine(joined, 0, joined.length);
+                    pending.reset();
+                } else {
+                    line = FileReaderUtil.decodeLine(bytes, segmentStart, Math.min(i, segmentStart + MAX_LINE_BYTES));
+                }
+                consumed = position + i + 1;
+                segmentStart = i + 1;
+
+                // Lines without a timestamp (e.g. continuation lines) belong to the line before them
+                long parsed = timestamps.parse(line);
+                if (parsed != LogTimestampParser.NONE) {
+                    lineTime = parsed;
+                }
+
+                if (query.to() != LogTimestampParser.NONE && lineTime != LogTimestampParser.NONE && lineTime > query.to()) {
+                    return new Result(lines, true, null, consumed - start);
+                }
+                if (query.from() != LogTimestampParser.NONE && (lineTime == LogTimestampParser.NONE || lineTime < query.from())) {
+                    continue;
+                }
+                if (query.filter() != null && !query.filter().test(line)) {
+                    continue;
+                }
+
+                lines.add(line);
+                if (lines.size() >= query.limit()) {
+                    return stopped(channel, fileId, lines, consumed, consumed - start);
+                }
+            }
+
+            appendCapped(pending, bytes, segmentStart, length - segmentStart);
+            position += length;
+        }
+
+        // A trailing partial line is still being written; it is picked up by the next search
+        return new Result(lines, true, null, position - start);
+    }
+
+    private static Result stopped(FileChannel channel, long fileId, List<String> lines, long consumed, long scanned) throws IOException {
+        String cursor = new LogCursor(fileId, FileReaderUtil.headHash(channel, consumed), consumed).encode();
+        return new Result(lines, true, cursor, scanned);
+    }
+
+    private static void appendCapped(ByteArrayOutputStream pending, byte[] bytes, int from, int length) {
+        int room = MAX_LINE_BYTES - pending.size();
+        if (room > 0) {
+            pending.write(bytes, from, Math.min(room, length));
+        }
+    }
+
+    public long getIndexedFileCount() {
+        return indices.estimatedSize();
+    }
+}
@@ -1,36 +1,60 @@
 package net.mysterria.reporter.manager;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import dev.ua.ikeepcalm.coi.api.CircleOfImaginationAPI;
 import net.mysterria.reporter.MysterriaReporter;
 import net.mysterria.reporter.model.EveryonePathwayResponse;
+import net.mysterria.reporter.model.PathwayStatsResponse;
 import net.mysterria.reporter.model.PlayerPathwayResponse;
 import net.mysterria.reporter.util.PathwayUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 public class PathwayCacheManager {
 
     private final MysterriaReporter plugin;
     private final CircleOfImaginationAPI coiAPI;
-    private final Cache<String, PlayerPathwayResponse> playerCache;
+    private final AsyncLoadingCache<String, PlayerPathwayResponse> playerCache;
+    private final BeyonderScanner scanner;
+    private final TickScanScheduler tickScheduler;
+    private final SnapshotStore snapshotStore;
+    private final ReporterMetrics metrics;
+    private final PathwayStatistics statistics = new PathwayStatistics();
+    private final ChangeFeed changeFeed;
+    private final ExecutorService snapshotExecutor;
+    private final EveryoneSnapshotHolder snapshots;
+    private final Set<String> dirtyPlayers = ConcurrentHashMap.newKeySet();
     private final boolean debugCache;
     private final boolean debugRefresh;
     private final int refreshInterval;
-    private EveryonePathwayResponse everyoneCache;
+    private final int playerTTL;
     private BukkitTask refreshTask;
 
     public PathwayCacheManager(MysterriaReporter plugin, CircleOfImaginationAPI coiAPI) {
         this.plugin = plugin;
         this.coiAPI = coiAPI;
+        this.metrics = plugin.getMetrics();
 
         FileConfiguration config = plugin.getConfig();
 
@@ -38,110 +62,400 @@ public class PathwayCacheManager {
         this.debugRefresh = config.getBoolean("logging.debug-refresh", false);
         this.refreshInterval = config.getInt("cache.refresh-interval", 15);
 
-        int playerTTL = config.getInt("cache.player-ttl", 5);
+        this.playerTTL = config.getInt("cache.player-ttl", 5);
         int maxPlayerEntries = config.getInt("cache.max-player-entries", 1000);
+        int scanParallelism = config.getInt("cache.scan-parallelism", Runtime.getRuntime().availableProcessors());
+        int scanChunkSize = config.getInt("cache.scan-chunk-size", 256);
 
-        this.playerCache = Caffeine.newBuilder()
+        int playerRefreshAfter = config.getInt("cache.player-refresh-after", playerTTL * 60 * 4 / 5);
+
+        this.tickScheduler = "tick".equalsIgnoreCase(config.getString("cache.scan-mode", "parallel"))
+                ? new TickScanScheduler(plugin, coiAPI,
+                        config.getDouble("cache.tick-budget-ms", 2.0),
+                        config.getDouble("cache.tick-budget-mspt-threshold", 40.0))
+                : null;
+        this.scanner = new BeyonderScanner(coiAPI, scanParallelism, scanChunkSize, tickScheduler);
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
                 .expireAfterWrite(playerTTL, TimeUnit.MINUTES)
                 .maximumSize(maxPlayerEntries)
-                .build();
+                .recordStats();
+        if (playerRefreshAfter > 0 && playerRefreshAfter < playerTTL * 60) {
+            // Hot entries are reloaded in the background and keep serving the old value meanwhile
+            builder.refreshAfterWrite(playerRefreshAfter, TimeUnit.SECONDS);
+        }
+        this.playerCache = builder.buildAsync(new PlayerLoader());
+
+        this.snapshotStore = config.getBoolean("cache.persist-snapshot", true)
+                ? new SnapshotStore(plugin.getDataFolder().toPath().resolve("pathway-cache.bin"))
+                : null;
+
+        this.changeFeed = new ChangeFeed(config.getInt("cache.change-feed-size", 10000));
+        // Builds block on scans (for whole tick-mode rescans), so they get their own thread instead of the common pool
+        this.snapshotExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MysterriaReporter-Snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.snapshots = new EveryoneSnapshotHolder(snapshotExecutor, statistics, changeFeed, snapshot -> persistSnapshot());
 
-        loadEveryoneCacheAsync();
+        restoreSnapshot();
+        refreshEveryoneCache();
         startRefreshTask();
     }
 
-    public PlayerPathwayResponse getPlayerPathway(String playerName) {
-        PlayerPathwayResponse cached = playerCache.getIfPresent(playerName);
+    /**
+     * Loads player entries for the cache. Beyonders in a snapshot younger than {@code player-ttl}
+     * are materialized from it, so scans no longer copy every beyonder into this cache.
+     * Concurrent misses for the same name share one load; bulk misses are resolved together
+     * with the scanner's bounded parallelism.
+     */
+    private final class PlayerLoader implements AsyncCacheLoader<String, PlayerPathwayResponse> {
+
+        @Override
+        public CompletableFuture<PlayerPathwayResponse> asyncLoad(String playerName, Executor executor) {
+            PlayerPathwayResponse fromSnapshot = fromSnapshot(playerName);
+            if (fromSnapshot != null) {
+                return CompletableFuture.completedFuture(fromSnapshot);
+            }
+            return CompletableFuture.supplyAsync(() -> scanner.resolve(playerName), executor);
+        }
 
-        if (cached != null) {
-            if (debugCache) {
-                PathwayUtil.logDebug("Cache HIT for player: " + playerName);
+        @Override
+        public CompletableFuture<Map<String, PlayerPathwayResponse>> asyncLoadAll(Set<? extends String> playerNames, Executor executor) {
+            Map<String, PlayerPathwayResponse> loaded = new LinkedHashMap<>();
+            List<String> missing = new ArrayList<>();
+            for (String playerName : playerNames) {
+                PlayerPathwayResponse fromSnapshot = fromSnapshot(playerName);
+                if (fromSnapshot != null) {
+                    loaded.put(playerName, fromSnapshot);
+                } else {
+                    missing.add(playerName);
+                }
+            }
+            if (missing.isEmpty()) {
+                return CompletableFuture.completedFuture(loaded);
+            }
+
+            return CompletableFuture.supplyAsync(() -> {
+                for (PlayerPathwayResponse response : scanner.resolve(missing)) {
+                    loaded.put(response.getPlayerName(), response);
+                }
+                return loaded;
+            }, executor);
+        }
+
+        private PlayerPathwayResponse fromSnapshot(String playerName) {
+            EveryoneSnapshotHolder.Snapshot snapshot = snapshots.current();
+            if (snapshot == null || dirtyPlayers.contains(playerName)
+                || System.currentTimeMillis() - snapshot.builtAt() >= TimeUnit.MINUTES.toMillis(playerTTL)) {
+                return null;
             }
-            return cached;
+            return snapshot.table().get(playerName);
+        }
+    }
+
+    public PlayerPathwayResponse getPlayerPathway(String playerName) {
+        if (debugCache) {
+            boolean cached = playerCache.getIfPresent(playerName) != null;
+            PathwayUtil.logDebug("Cache " + (cached ? "HIT" : "MISS") + " for player: " + playerName);
         }
 
+        return await(playerCache.get(playerName));
+    }
+
+    /**
+     * Looks up several players at once: cache hits are answered directly,
+     * misses are resolved together with the scanner's bounded parallelism
+     * @return Responses keyed by the requested names
+     */
+    public Map<String, PlayerPathwayResponse> getPlayerPathways(Collection<String> playerNames) {
         if (debugCache) {
-            PathwayUtil.logDebug("Cache MISS for player: " + playerName);
+            int hits = playerCache.synchronous().getAllPresent(playerNames).size();
+            PathwayUtil.logDebug("Batch lookup of " + playerNames.size() + " players - " +
+                                 (playerNames.size() - hits) + " cache misses");
         }
 
-        PlayerPathwayResponse response = PathwayUtil.getPlayerPathwayData(playerName, coiAPI);
-        playerCache.put(playerName, response);
-        return response;
+        return await(playerCache.getAll(playerNames));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     public EveryonePathwayResponse getEveryonePathways() {
-        if (everyoneCache != null) {
+        return getEveryoneSnapshot().response();
+    }
+
+    /**
+     * @return the everyone response as pre-serialized JSON, built once per published snapshot
+     */
+    public SerializedPayload getEveryonePayload() {
+        return getEveryoneSnapshot().payload();
+    }
+
+    /**
+     * @return secondary indices over the current everyone snapshot, rebuilt once per publish
+     */
+    public PathwayIndex getEveryoneIndex() {
+        return getEveryoneSnapshot().index();
+    }
+
+    /**
+     * @return pathway and sequence distribution, read from running counters rather than the beyonder list
+     */
+    public PathwayStatsResponse getPathwayStatistics() {
+        getEveryoneSnapshot();
+        return statistics.snapshot();
+    }
+
+    /**
+     * @param since Snapshot version the client holds, as reported by the everyone response or a previous call
+     * @param limit Soft cap on returned changes; versions are never split across calls
+     * @return Changes after that version, or a resync flag if the feed no longer reaches back that far
+     */
+    public ChangeFeed.Changes getChangesSince(long since, int limit) {
+        getEveryoneSnapshot();
+        return changeFeed.since(since, limit);
+    }
+
+    /**
+     * Returns the published snapshot. Before the first publish, callers wait for the
+     * build in flight (starting one if needed) instead of scanning on their own.
+     */
+    private EveryoneSnapshotHolder.Snapshot getEveryoneSnapshot() {
+        EveryoneSnapshotHolder.Snapshot snapshot = snapshots.current();
+        if (snapshot != null) {
             if (debugCache) {
                 PathwayUtil.logDebug("Cache HIT for everyone pathway data");
             }
-            return everyoneCache;
+            return snapshot;
         }
 
         if (debugCache) {
-            PathwayUtil.logDebug("Cache MISS for everyone pathway data - loading synchronously");
+            PathwayUtil.logDebug("Cache MISS for everyone pathway data - waiting for scan");
         }
+        return await(snapshots.build(this::buildFull));
+    }
 
-        return loadEveryoneCache();
+    /**
+     * Marks a player whose pathway state may have changed, so the next
+     * periodic refresh re-queries them instead of rescanning everyone.
+     */
+    public void markDirty(String playerName) {
+        if (playerName != null) {
+            dirtyPlayers.add(playerName);
+        }
     }
 
     public void invalidatePlayerCache(String playerName) {
-        playerCache.invalidate(playerName);
+        playerCache.synchronous().invalidate(playerName);
+        markDirty(playerName);
         if (debugCache) {
             PathwayUtil.logDebug("Invalidated cache for player: " + playerName);
         }
     }
 
     public void invalidateAllCaches() {
-        playerCache.invalidateAll();
-        everyoneCache = null;
+        playerCache.synchronous().invalidateAll();
+        dirtyPlayers.clear();
+        snapshots.clear();
+        deleteSnapshot();
         if (debugCache) {
             PathwayUtil.logDebug("Invalidated all caches");
         }
     }
 
+    /**
+     * Rescans every offline player. Only used on startup and when explicitly requested.
+     * Joins the build already in flight, if any.
+     */
     public void refreshEveryoneCache() {
         if (debugRefresh) {
-            PathwayUtil.logDebug("Starting everyone cache refresh...");
+            PathwayUtil.logDebug("Starting full everyone cache refresh...");
+        }
+        snapshots.build(this::buildFull);
+    }
+
+    /**
+     * Re-queries only the players marked dirty since the last pass and patches the
+     * current snapshot. Falls back to a full scan if no snapshot has been built yet.
+     */
+    public void refreshDirtyPlayers() {
+        snapshots.build(this::buildIncremental);
+    }
+
+    private EveryoneSnapshotHolder.Build buildFull(EveryoneSnapshotHolder.Snapshot previous) {
+        try {
+            long start = System.nanoTime();
+            BeyonderTable beyonders = loadEveryoneCache(previous);
+            metrics.recordRefresh(ReporterMetrics.RefreshKind.FULL, start, scanner.getLastPlayerCount());
+            if (debugRefresh) {
+                PathwayUtil.logDebug("Everyone cache refreshed successfully - " + beyonders.size() + " beyonders loaded");
+            }
+            return new EveryoneSnapshotHolder.Build(beyonders, null);
+        } catch (RuntimeException e) {
+            plugin.getLogger().severe("Error refreshing everyone cache: " + e.getMessage());
+            e.printStackTrace();
+            throw e;
         }
-        loadEveryoneCacheAsync();
     }
 
-    private void loadEveryoneCacheAsync() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                everyoneCache = loadEveryoneCache();
+    private EveryoneSnapshotHolder.Build buildIncremental(EveryoneSnapshotHolder.Snapshot previous) {
+        if (previous == null) {
+            return buildFull(null);
+        }
+
+        // Acting and sequence progress happen in-game, so whoever is online is a candidate too
+        for (Player online : Bukkit.getOnlinePlayers()) {
+            dirtyPlayers.add(online.getName());
+        }
+
+        Set<String> batch = new HashSet<>();
+        for (String playerName : dirtyPlayers) {
+            if (dirtyPlayers.remove(playerName)) {
+                batch.add(playerName);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            if (debugRefresh) {
+                PathwayUtil.logDebug("Incremental refresh skipped - no dirty players");
+            }
+            return null;
+        }
+
+        try {
+            long start = System.nanoTime();
+            BeyonderScanner.Scan scan = scanner.scan(new ArrayList<>(batch));
+            List<PlayerPathwayResponse> updates = scan.resolved();
+            for (PlayerPathwayResponse playerData : updates) {
+                // Until the patched snapshot is published, the player cache must not fall back to the old one
+                playerCache.synchronous().put(playerData.getPlayerName(), playerData);
+            }
+            // Players whose lookup failed keep their old row and are retried on the next pass
+            dirtyPlayers.addAll(scan.failed());
+            BeyonderTable patched = previous.table().patch(updates);
+
+            metrics.recordRefresh(ReporterMetrics.RefreshKind.INCREMENTAL, start, batch.size());
+            if (patched == previous.table()) {
+                // Nothing changed: keep the published snapshot, its ETag and the persisted file as they are
                 if (debugRefresh) {
-                    PathwayUtil.logDebug("Everyone cache refreshed successfully - " +
-                                         everyoneCache.getAmount() + " beyonders loaded");
+                    PathwayUtil.logDebug("Incremental refresh checked " + batch.size() + " players - no changes");
                 }
-            } catch (Exception e) {
-                plugin.getLogger().severe("Error refreshing everyone cache: " + e.getMessage());
-                e.printStackTrace();
+                return null;
             }
-        });
+            if (debugRefresh) {
+                PathwayUtil.logDebug("Incremental refresh patched " + batch.size() + " players - " +
+                                     patched.size() + " beyonders cached");
+            }
+            return new EveryoneSnapshotHolder.Build(patched, batch);
+        } catch (RuntimeException e) {
+            dirtyPlayers.addAll(batch);
+            plugin.getLogger().severe("Error during incremental cache refresh: " + e.getMessage());
+            e.printStackTrace();
+            throw e;
+        }
     }
 
-    private EveryonePathwayResponse loadEveryoneCache() {
-        List<PlayerPathwayResponse> beyonders = new ArrayList<>();
-
+    /**
+     * @param previous Currently published snapshot, or null; players whose lookup fails keep their row from it
+     */
+    private BeyonderTable loadEveryoneCache(EveryoneSnapshotHolder.Snapshot previous) {
         OfflinePlayer[] offlinePlayers = Bukkit.getOfflinePlayers();
+        List<String> playerNames = new ArrayList<>(offlinePlayers.length);
         for (OfflinePlayer player : offlinePlayers) {
             String playerName = player.getName();
-            if (playerName == null) continue;
+            if (playerName != null) {
+                playerNames.add(playerName);
+            }
+        }
 
-            if (coiAPI.isBeyonder(playerName)) {
-                PlayerPathwayResponse playerData = PathwayUtil.getPlayerPathwayData(playerName, coiAPI);
-                if (playerData.getBeyonder()) {
-                    beyonders.add(playerData);
-                    playerCache.put(playerName, playerData);
+        BeyonderScanner.Scan scan = scanner.scan(playerNames);
+        BeyonderTable beyonders = BeyonderTable.of(scan.resolved());
+
+        if (!scan.failed().isEmpty()) {
+            // A failed lookup says nothing about the player, so it must not read as a removal
+            if (previous != null) {
+                List<PlayerPathwayResponse> kept = new ArrayList<>();
+                for (String playerName : scan.failed()) {
+                    PlayerPathwayResponse row = previous.table().get(playerName);
+                    if (row != null) {
+                        kept.add(row);
+                    }
                 }
+                beyonders = beyonders.patch(kept);
             }
+            dirtyPlayers.addAll(scan.failed());
+            plugin.getLogger().warning("Full scan could not resolve " + scan.failed().size() +
+                                       " players; kept their previous data and queued them for the next refresh");
         }
 
-        return EveryonePathwayResponse.builder()
-                .amount(beyonders.size())
-                .beyonder(beyonders)
-                .build();
+        if (debugRefresh) {
+            PathwayUtil.logDebug("Scanned " + playerNames.size() + " players in " +
+                                 scanner.getLastDurationMillis() + "ms (parallelism " + scanner.getParallelism() + ")");
+        }
+        return beyonders;
+    }
+
+    /**
+     * Serves the snapshot written by the previous run until the startup scan replaces it.
+     * Player entries are only restored while they are still within {@code player-ttl}.
+     */
+    private void restoreSnapshot() {
+        if (snapshotStore == null) {
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            SnapshotStore.Snapshot snapshot = snapshotStore.load();
+            if (snapshot == null) {
+                return;
+            }
+
+            snapshots.publish(snapshot.everyone());
+            if (System.currentTimeMillis() - snapshot.savedAt() < TimeUnit.MINUTES.toMillis(playerTTL)) {
+                playerCache.synchronous().putAll(snapshot.players());
+            }
+
+            plugin.getLogger().info("Restored cached snapshot with " + snapshot.everyone().size() + " beyonders in " +
+                                    (System.nanoTime() - start) / 1_000_000L + "ms");
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to restore cached snapshot, starting empty: " + e.getMessage());
+        }
+    }
+
+    private void persistSnapshot() {
+        EveryoneSnapshotHolder.Snapshot snapshot = snapshots.current();
+        if (snapshotStore == null || snapshot == null) {
+            return;
+        }
+
+        try {
+            snapshotStore.save(snapshot.table(), Map.copyOf(playerCache.synchronous().asMap()));
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to persist cache snapshot: " + e.getMessage());
+        }
+    }
+
+    private void deleteSnapshot() {
+        if (snapshotStore == null) {
+            return;
+        }
+
+        try {
+            snapshotStore.delete();
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to delete cache snapshot: " + e.getMessage());
+        }
     }
 
     private void startRefreshTask() {
@@ -154,7 +468,7 @@ public class PathwayCacheManager {
 
         this.refreshTask = Bukkit.getScheduler().runTaskTimerAsynchronously(
                 plugin,
-                this::refreshEveryoneCache,
+                this::refreshDirtyPlayers,
                 intervalTicks,
                 intervalTicks
         );
@@ -167,15 +481,41 @@ public class PathwayCacheManager {
             refreshTask.cancel();
             plugin.getLogger().info("Cache refresh task cancelled");
         }
-        playerCache.invalidateAll();
-        everyoneCache = null;
+        if (tickScheduler != null) {
+            tickScheduler.shutdown();
+        }
+        snapshotExecutor.shutdownNow();
+        persistSnapshot();
+        playerCache.synchronous().invalidateAll();
+        dirtyPlayers.clear();
+        snapshots.clear();
     }
 
     public long getPlayerCacheSize() {
-        return playerCache.estimatedSize();
+        return playerCache.synchronous().estimatedSize();
+    }
+
+    public CacheStats getPlayerCacheStats() {
+        return playerCache.synchronous().stats();
     }
 
     public int getEveryoneCacheSize() {
-        return everyoneCache != null ? everyoneCache.getAmount() : 0;
+        EveryoneSnapshotHolder.Snapshot snapshot = snapshots.current();
+        return snapshot != null ? snapshot.table().size() : 0;
+    }
+
+    /**
+     * @return the published everyone snapshot, or null if none has been built yet
+     */
+    public EveryoneSnapshotHolder.Snapshot getPublishedSnapshot() {
+        return snapshots.current();
+    }
+
+    public int getDirtyPlayerCount() {
+        return dirtyPlayers.size();
+    }
+
+    public BeyonderScanner getScanner() {
+        return scanner;
     }
 }
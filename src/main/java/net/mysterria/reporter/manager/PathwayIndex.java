@@ -0,0 +1,286 @@
+package net.mysterria.reporter.manager;
+
+import net.mysterria.reporter.model.PlayerPathwayResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Immutable secondary indices over one everyone snapshot: pathway, sequence and
+ * pathway x sequence buckets of row numbers into its {@link BeyonderTable}. Table rows
+ * are already in name order, so every bucket is too. A query picks the narrowest set
+ * of buckets, narrows each to the requested name range by binary search and merges
+ * only as many rows as the page needs; responses are materialized for the page only.
+ */
+public final class PathwayIndex {
+
+    public static final String SORT_NAME = "name";
+    public static final String SORT_SEQUENCE = "sequence";
+
+    private static final Comparator<String> KEY_ORDER = String.CASE_INSENSITIVE_ORDER;
+    private static final char PREFIX_END = Character.MAX_VALUE;
+
+    private final BeyonderTable table;
+    private final int[] byName;
+    private final NavigableMap<Integer, int[]> bySequence;
+    private final Map<String, NavigableMap<Integer, int[]>> byPathwaySequence;
+
+    private record Bucket(int[] rows, int from, int to) {
+    }
+
+    public record Query(String pathway, Integer minSequence, Integer maxSequence, String prefix,
+                        String sort, String cursor, int limit) {
+    }
+
+    public record Page(List<PlayerPathwayResponse> beyonders, int total, String nextCursor) {
+    }
+
+    private PathwayIndex(BeyonderTable table, int[] byName,
+                         NavigableMap<Integer, int[]> bySequence,
+                         Map<String, NavigableMap<Integer, int[]>> byPathwaySequence) {
+        this.table = table;
+        this.byName = byName;
+        this.bySequence = bySequence;
+        this.byPathwaySequence = byPathwaySequence;
+    }
+
+    public static PathwayIndex build(BeyonderTable table) {
+        int size = table.size();
+        int[] byName = new int[size];
+        Map<Integer, IntList> sequences = new HashMap<>();
+        Map<Long, IntList> pathwaySequences = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            byName[row] = row;
+            int sequence = sequenceKey(table, row);
+            sequences.computeIfAbsent(sequence, k -> new IntList()).add(row);
+            pathwaySequences.computeIfAbsent(((long) table.pathwayId(row) << 32) | (sequence & 0xFFFFFFFFL), k -> new IntList()).add(row);
+        }
+
+        NavigableMap<Integer, int[]> bySequence = new TreeMap<>();
+        sequences.forEach((sequence, rows) -> bySequence.put(sequence, rows.toArray()));
+
+        List<String> pathways = table.pathways();
+        Map<String, NavigableMap<Integer, int[]>> byPathwaySequence = new HashMap<>();
+        pathwaySequences.forEach((key, rows) -> byPathwaySequence
+                .computeIfAbsent(pathways.get((int) (key >>> 32)).toLowerCase(Locale.ROOT), k -> new TreeMap<>())
+                .merge((int) (long) key, rows.toArray(), PathwayIndex::union));
+
+        return new PathwayIndex(table, byName, bySequence, byPathwaySequence);
+    }
+
+    public Page query(Query query) {
+        boolean bySequenceOrder = SORT_SEQUENCE.equals(query.sort());
+
+        NavigableMap<Integer, int[]> sequences;
+        if (query.pathway() != null) {
+            sequences = byPathwaySequence.get(query.pathway().toLowerCase(Locale.ROOT));
+            if (sequences == null) {
+                return new Page(List.of(), 0, null);
+            }
+        } else if (query.minSequence() != null || query.maxSequence() != null || bySequenceOrder) {
+            sequences = bySequence;
+        } else {
+            sequences = null;
+        }
+
+        List<int[]> candidates = new ArrayList<>();
+        if (sequences == null) {
+            candidates.add(byName);
+        } else {
+            int min = query.minSequence() != null ? query.minSequence() : Integer.MIN_VALUE;
+            int max = query.maxSequence() != null ? query.maxSequence() : Integer.MAX_VALUE;
+            if (min > max) {
+                return new Page(List.of(), 0, null);
+            }
+            candidates.addAll(sequences.subMap(min, true, max, true).values());
+        }
+
+        String prefix = query.prefix() != null ? query.prefix().toLowerCase(Locale.ROOT) : "";
+        String prefixEnd = prefix + PREFIX_END;
+        Cursor cursor = Cursor.decode(query.cursor());
+
+        int total = 0;
+        List<Bucket> buckets = new ArrayList<>(candidates.size());
+        for (int[] rows : candidates) {
+            int from = lowerBound(rows, prefix);
+            int to = lowerBound(rows, prefixEnd);
+            total += to - from;
+
+            if (cursor != null) {
+                int sequence = rows.length == 0 ? 0 : sequenceKey(table, rows[0]);
+                if (bySequenceOrder) {
+                    if (sequence < cursor.sequence()) {
+                        continue;
+                    }
+                    if (sequence == cursor.sequence()) {
+                        from = Math.max(from, upperBound(rows, cursor.key()));
+                    }
+                } else {
+                    from = Math.max(from, upperBound(rows, cursor.key()));
+                }
+            }
+
+            if (from < to) {
+                buckets.add(new Bucket(rows, from, to));
+            }
+        }
+
+        IntList page = bySequenceOrder
+                ? concatenate(buckets, query.limit() + 1)
+                : mergeByName(buckets, query.limit() + 1);
+
+        String nextCursor = null;
+        int pageSize = page.size();
+        if (pageSize > query.limit()) {
+            pageSize = query.limit();
+            int last = page.get(pageSize - 1);
+            nextCursor = new Cursor(sequenceKey(table, last), table.name(last).toLowerCase(Locale.ROOT)).encode();
+        }
+
+        List<PlayerPathwayResponse> beyonders = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            beyonders.add(table.get(page.get(i)));
+        }
+        return new Page(beyonders, total, nextCursor);
+    }
+
+    private static IntList concatenate(List<Bucket> buckets, int limit) {
+        IntList result = new IntList();
+        for (Bucket bucket : buckets) {
+            for (int i = bucket.from(); i < bucket.to() && result.size() < limit; i++) {
+                result.add(bucket.rows()[i]);
+            }
+        }
+        return result;
+    }
+
+    private static IntList mergeByName(List<Bucket> buckets, int limit) {
+        if (buckets.size() == 1) {
+            return concatenate(buckets, limit);
+        }
+
+        record Head(Bucket bucket, int position) {
+            int row() {
+                return bucket.rows()[position];
+            }
+        }
+
+        // Row numbers follow name order, so comparing them is comparing names
+        PriorityQueue<Head> heads = new PriorityQueue<>(Math.max(1, buckets.size()), Comparator.comparingInt(Head::row));
+        for (Bucket bucket : buckets) {
+            heads.add(new Head(bucket, bucket.from()));
+        }
+
+        IntList result = new IntList();
+        while (!heads.isEmpty() && result.size() < limit) {
+            Head head = heads.poll();
+            result.add(head.row());
+            if (head.position() + 1 < head.bucket().to()) {
+                heads.add(new Head(head.bucket(), head.position() + 1));
+            }
+        }
+        return result;
+    }
+
+    private int lowerBound(int[] rows, String key) {
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (KEY_ORDER.compare(table.name(rows[mid]), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(int[] rows, String key) {
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (KEY_ORDER.compare(table.name(rows[mid]), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Joins buckets of pathways whose names only differ in case
+     */
+    private static int[] union(int[] a, int[] b) {
+        int[] rows = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, rows, a.length, b.length);
+        Arrays.sort(rows);
+        return rows;
+    }
+
+    private static int sequenceKey(BeyonderTable table, int row) {
+        int sequence = table.sequence(row);
+        return sequence == BeyonderTable.NO_SEQUENCE ? Integer.MAX_VALUE : sequence;
+    }
+
+    /**
+     * Growable int array, so row numbers are never boxed
+     */
+    private static final class IntList {
+
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private record Cursor(int sequence, String key) {
+
+        String encode() {
+            String raw = sequence + ":" + key;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String encoded) {
+            if (encoded == null || encoded.isEmpty()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                return new Cursor(Integer.parseInt(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+}
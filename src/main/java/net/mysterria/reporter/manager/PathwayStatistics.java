@@ -0,0 +1,160 @@
+package net.mysterria.reporter.manager;
+
+import net.mysterria.reporter.model.PathwayStatsResponse;
+import net.mysterria.reporter.model.PlayerPathwayResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Running counters over the everyone snapshot, updated as entries are added,
+ * replaced or removed so that reading them never rescans the beyonder list.
+ */
+public class PathwayStatistics {
+
+    private final Map<String, Counter> pathways = new HashMap<>();
+    private int amount;
+    private double actingSum;
+
+    private static final class Counter {
+        private final TreeMap<Integer, Integer> sequences = new TreeMap<>();
+        private int amount;
+        private double actingSum;
+    }
+
+    public synchronized void replace(PlayerPathwayResponse previous, PlayerPathwayResponse current) {
+        if (Objects.equals(previous, current)) {
+            return;
+        }
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        if (current != null) {
+            apply(current, 1);
+        }
+    }
+
+    /**
+     * Recomputes every counter from a table in one pass over its columns
+     */
+    public synchronized void reset(BeyonderTable table) {
+        clear();
+
+        int pathwayCount = table.pathways().size();
+        int[] amounts = new int[pathwayCount];
+        double[] actingSums = new double[pathwayCount];
+        int[][] sequenceCounts = new int[pathwayCount][Byte.MAX_VALUE + 1];
+
+        for (int row = 0; row < table.size(); row++) {
+            int pathway = table.pathwayId(row);
+            double acting = table.acting(row);
+            amounts[pathway]++;
+            actingSums[pathway] += Double.isNaN(acting) ? 0 : acting;
+
+            int sequence = table.sequence(row);
+            if (sequence != BeyonderTable.NO_SEQUENCE) {
+                sequenceCounts[pathway][sequence]++;
+            }
+        }
+
+        for (int pathway = 0; pathway < pathwayCount; pathway++) {
+            if (amounts[pathway] == 0) {
+                continue;
+            }
+            Counter counter = new Counter();
+            counter.amount = amounts[pathway];
+            counter.actingSum = actingSums[pathway];
+            for (int sequence = 0; sequence < sequenceCounts[pathway].length; sequence++) {
+                if (sequenceCounts[pathway][sequence] > 0) {
+                    counter.sequences.put(sequence, sequenceCounts[pathway][sequence]);
+                }
+            }
+            pathways.put(table.pathways().get(pathway), counter);
+            amount += amounts[pathway];
+            actingSum += actingSums[pathway];
+        }
+    }
+
+    public synchronized void clear() {
+        pathways.clear();
+        amount = 0;
+        actingSum = 0;
+    }
+
+    public synchronized PathwayStatsResponse snapshot() {
+        List<PathwayStatsResponse.PathwayStats> stats = new ArrayList<>(pathways.size());
+        for (Map.Entry<String, Counter> entry : pathways.entrySet()) {
+            Counter counter = entry.getValue();
+            stats.add(PathwayStatsResponse.PathwayStats.builder()
+                    .pathway(entry.getKey())
+                    .amount(counter.amount)
+                    .averageActing(average(counter.actingSum, counter.amount))
+                    .sequences(new TreeMap<>(counter.sequences))
+                    .build());
+        }
+        stats.sort((a, b) -> Integer.compare(b.getAmount(), a.getAmount()));
+
+        return PathwayStatsResponse.builder()
+                .amount(amount)
+                .averageActing(average(actingSum, amount))
+                .pathways(stats)
+                .build();
+    }
+
+    private void apply(PlayerPathwayResponse entry, int delta) {
+        if (!Boolean.TRUE.equals(entry.getBeyonder()) || entry.getPathway() == null) {
+            return;
+        }
+
+        double acting = parseDouble(entry.getActing()) * delta;
+        amount += delta;
+        actingSum += acting;
+
+        Counter counter = pathways.computeIfAbsent(entry.getPathway(), k -> new Counter());
+        counter.amount += delta;
+        counter.actingSum += acting;
+
+        Integer sequence = parseInt(entry.getSequence());
+        if (sequence != null) {
+            counter.sequences.merge(sequence, delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+
+        if (counter.amount <= 0) {
+            pathways.remove(entry.getPathway());
+        }
+        if (amount <= 0) {
+            // Avoid carrying floating point residue once the snapshot is empty
+            actingSum = 0;
+        }
+    }
+
+    private static Double average(double sum, int count) {
+        return count > 0 ? sum / count : 0.0;
+    }
+
+    private static double parseDouble(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static Integer parseInt(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
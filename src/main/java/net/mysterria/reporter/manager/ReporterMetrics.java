@@ -0,0 +1,192 @@
+package net.mysterria.reporter.manager;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import net.mysterria.reporter.MysterriaReporter;
+import net.mysterria.reporter.util.FileReaderUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Collects request latencies and everyone refresh timings, and renders them together
+ * with cache statistics and gauges read from the other managers in Prometheus text format.
+ */
+public class ReporterMetrics {
+
+    private static final String PREFIX = "mysterria_reporter_";
+
+    public enum RefreshKind {
+        FULL, INCREMENTAL
+    }
+
+    private final MysterriaReporter plugin;
+    private final Map<String, LatencyHistogram> endpoints = new ConcurrentSkipListMap<>();
+    private final Map<RefreshKind, RefreshStats> refreshes = Map.of(
+            RefreshKind.FULL, new RefreshStats(),
+            RefreshKind.INCREMENTAL, new RefreshStats()
+    );
+
+    /**
+     * Timings of one kind of everyone refresh
+     */
+    public static final class RefreshStats {
+
+        private final LatencyHistogram duration = new LatencyHistogram(LatencyHistogram.SCAN_BUCKETS);
+        private volatile long lastDurationMillis = -1;
+        private volatile int lastPlayerCount;
+        private volatile long lastFinishedAt;
+
+        public LatencyHistogram getDuration() {
+            return duration;
+        }
+
+        public long getLastDurationMillis() {
+            return lastDurationMillis;
+        }
+
+        public int getLastPlayerCount() {
+            return lastPlayerCount;
+        }
+
+        public long getLastFinishedAt() {
+            return lastFinishedAt;
+        }
+    }
+
+    public ReporterMetrics(MysterriaReporter plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * @param name Endpoint name used as the {@code endpoint} label, e.g. {@code player_pathway}
+     * @return The endpoint's latency histogram, created on first use
+     */
+    public LatencyHistogram endpoint(String name) {
+        return endpoints.computeIfAbsent(name, key -> new LatencyHistogram(LatencyHistogram.REQUEST_BUCKETS));
+    }
+
+    public Map<String, LatencyHistogram> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Records one finished everyone refresh
+     * @param playerCount Number of players the refresh re-queried
+     */
+    public void recordRefresh(RefreshKind kind, long startNanos, int playerCount) {
+        RefreshStats stats = refreshes.get(kind);
+        long nanos = System.nanoTime() - startNanos;
+        stats.duration.record(nanos);
+        stats.lastDurationMillis = nanos / 1_000_000L;
+        stats.lastPlayerCount = playerCount;
+        stats.lastFinishedAt = System.currentTimeMillis();
+    }
+
+    public RefreshStats getRefreshStats(RefreshKind kind) {
+        return refreshes.get(kind);
+    }
+
+    public String renderPrometheus() {
+        StringBuilder out = new StringBuilder(8192);
+
+        header(out, "http_request_duration_seconds", "histogram", "Time spent handling requests per endpoint");
+        endpoints.forEach((name, histogram) ->
+                histogram.writePrometheus(out, PREFIX + "http_request_duration_seconds", "endpoint=\"" + name + "\""));
+
+        PathwayCacheManager cacheManager = plugin.getCacheManager();
+        FileCacheManager fileCacheManager = plugin.getFileCacheManager();
+
+        Map<String, CacheStats> caches = new LinkedHashMap<>();
+        if (cacheManager != null) {
+            caches.put("player", cacheManager.getPlayerCacheStats());
+        }
+        if (fileCacheManager != null) {
+            caches.put("file_content", fileCacheManager.getContentCacheStats());
+            caches.put("file_parsed", fileCacheManager.getParsedCacheStats());
+            caches.put("file_missing", fileCacheManager.getMissingCacheStats());
+        }
+
+        header(out, "cache_requests_total", "counter", "Cache lookups by result");
+        caches.forEach((cache, stats) -> {
+            sample(out, "cache_requests_total", "cache=\"" + cache + "\",result=\"hit\"", stats.hitCount());
+            sample(out, "cache_requests_total", "cache=\"" + cache + "\",result=\"miss\"", stats.missCount());
+        });
+        header(out, "cache_evictions_total", "counter", "Entries evicted by size or expiry");
+        caches.forEach((cache, stats) -> sample(out, "cache_evictions_total", "cache=\"" + cache + "\"", stats.evictionCount()));
+        header(out, "cache_load_seconds_total", "counter", "Time spent loading missing entries");
+        caches.forEach((cache, stats) -> sample(out, "cache_load_seconds_total", "cache=\"" + cache + "\"", stats.totalLoadTime() / 1e9));
+
+        header(out, "cache_entries", "gauge", "Estimated number of cached entries");
+        if (cacheManager != null) {
+            sample(out, "cache_entries", "cache=\"player\"", cacheManager.getPlayerCacheSize());
+            sample(out, "cache_entries", "cache=\"everyone\"", cacheManager.getEveryoneCacheSize());
+        }
+        if (fileCacheManager != null) {
+            sample(out, "cache_entries", "cache=\"file_content\"", fileCacheManager.getCachedFileCount());
+            sample(out, "cache_entries", "cache=\"file_missing\"", fileCacheManager.getMissingFileCount());
+        }
+
+        header(out, "everyone_refresh_duration_seconds", "histogram", "Duration of everyone snapshot refreshes");
+        for (RefreshKind kind : RefreshKind.values()) {
+            refreshes.get(kind).duration.writePrometheus(out, PREFIX + "everyone_refresh_duration_seconds", kindLabel(kind));
+        }
+        header(out, "everyone_refresh_players", "gauge", "Players re-queried by the last refresh");
+        for (RefreshKind kind : RefreshKind.values()) {
+            sample(out, "everyone_refresh_players", kindLabel(kind), refreshes.get(kind).lastPlayerCount);
+        }
+
+        if (cacheManager != null) {
+            EveryoneSnapshotHolder.Snapshot snapshot = cacheManager.getPublishedSnapshot();
+            header(out, "everyone_snapshot_version", "gauge", "Version of the published everyone snapshot");
+            sample(out, "everyone_snapshot_version", "", snapshot != null ? snapshot.version() : 0);
+            header(out, "everyone_snapshot_age_seconds", "gauge", "Seconds since the published everyone snapshot was built");
+            sample(out, "everyone_snapshot_age_seconds", "",
+                    snapshot != null ? (System.currentTimeMillis() - snapshot.builtAt()) / 1000.0 : Double.NaN);
+            header(out, "dirty_players", "gauge", "Players waiting for the next incremental refresh");
+            sample(out, "dirty_players", "", cacheManager.getDirtyPlayerCount());
+
+            TickScanScheduler tickScheduler = cacheManager.getScanner().getTickScheduler();
+            if (tickScheduler != null) {
+                header(out, "scan_tick_budget_seconds", "gauge", "Main-thread scan budget applied on the last tick");
+                sample(out, "scan_tick_budget_seconds", "", tickScheduler.getLastBudgetNanos() / 1e9);
+                header(out, "scan_ticks_total", "counter", "Ticks that resolved at least one player");
+                sample(out, "scan_ticks_total", "", tickScheduler.getTicksUsed());
+            }
+        }
+
+        header(out, "file_read_bytes_total", "counter", "Bytes read from COI data and log files");
+        sample(out, "file_read_bytes_total", "", FileReaderUtil.getBytesRead());
+
+        if (plugin.getLogFollowManager() != null) {
+            header(out, "log_followers", "gauge", "Open log follow streams");
+            sample(out, "log_followers", "", plugin.getLogFollowManager().getSubscriberCount());
+        }
+
+        return out.toString();
+    }
+
+    private static String kindLabel(RefreshKind kind) {
+        return "kind=\"" + kind.name().toLowerCase(Locale.ROOT) + "\"";
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(PREFIX).append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+}
@@ -0,0 +1,119 @@
+package net.mysterria.reporter.manager;
+
+import net.mysterria.reporter.util.JsonUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body serialized once at publish time, with a gzip variant and an
+ * ETag derived from the content, so pollers can be answered without
+ * re-serializing or with a bare 304.
+ */
+public final class SerializedPayload {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String opaqueTag;
+
+    private SerializedPayload(byte[] json, byte[] gzip, String etag, String opaqueTag) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = etag;
+        this.opaqueTag = opaqueTag;
+    }
+
+    /**
+     * @return Payload with a strong ETag hashed from the serialized bytes
+     */
+    public static SerializedPayload of(Object value) {
+        byte[] json = JsonUtil.toJsonBytes(value);
+        String tag = "\"" + encode(sha256(json)) + "\"";
+        return new SerializedPayload(json, gzip(json), tag, tag);
+    }
+
+    /**
+     * @param contentDigest Digest of the data the body presents; fields that change without the data
+     *                      changing (versions, timestamps) stay out of it, hence the weak ETag
+     * @return Payload with a weak ETag derived from the digest
+     */
+    public static SerializedPayload of(Object value, byte[] contentDigest) {
+        byte[] json = JsonUtil.toJsonBytes(value);
+        String tag = "\"" + encode(contentDigest) + "\"";
+        return new SerializedPayload(json, gzip(json), "W/" + tag, tag);
+    }
+
+    /**
+     * @param ifNoneMatch Value of the If-None-Match request header, may be null
+     * @return true if the client already holds this payload (weak comparison, as If-None-Match uses)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return a stream over the shared JSON bytes; the backing array is never copied or exposed
+     */
+    public InputStream jsonStream() {
+        return new ByteArrayInputStream(json);
+    }
+
+    public InputStream gzipStream() {
+        return new ByteArrayInputStream(gzip);
+    }
+
+    public int jsonLength() {
+        return json.length;
+    }
+
+    public int gzipLength() {
+        return gzip.length;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String encode(byte[] digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22);
+    }
+}
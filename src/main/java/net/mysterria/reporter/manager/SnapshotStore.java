@@ -0,0 +1,162 @@
+package net.mysterria.reporter.manager;
+
+import net.mysterria.reporter.model.PlayerPathwayResponse;
+import net.mysterria.reporter.util.PathwayUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persists the everyone snapshot and player cache to a compact binary file so a
+ * restart can serve the previous data immediately while a fresh scan runs.
+ * <p>
+ * Files whose magic or format version does not match are ignored; bump
+ * {@link #FORMAT_VERSION} whenever the entry layout changes.
+ */
+public class SnapshotStore {
+
+    private static final int MAGIC = 0x4D525043; // "MRPC"
+    private static final int FORMAT_VERSION = 2;
+
+    private final Path file;
+
+    public SnapshotStore(Path file) {
+        this.file = file;
+    }
+
+    public record Snapshot(long savedAt,
+                           BeyonderTable everyone,
+                           Map<String, PlayerPathwayResponse> players) {
+    }
+
+    public synchronized void save(BeyonderTable everyone,
+                                  Map<String, PlayerPathwayResponse> players) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(System.currentTimeMillis());
+            writeTable(out, everyone);
+            writeEntries(out, players);
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @return the stored snapshot, or null if there is none or it was written by an incompatible version
+     */
+    public synchronized Snapshot load() throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+
+            long savedAt = in.readLong();
+            BeyonderTable everyone = readTable(in);
+            Map<String, PlayerPathwayResponse> players = readEntries(in);
+            return new Snapshot(savedAt, everyone, players);
+        }
+    }
+
+    public synchronized void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Writes the table row by row with the pathway as a dictionary id, mirroring its columns
+     */
+    private static void writeTable(DataOutputStream out, BeyonderTable table) throws IOException {
+        List<String> pathways = table.pathways();
+        out.writeShort(pathways.size());
+        for (String pathway : pathways) {
+            out.writeUTF(pathway);
+        }
+
+        out.writeInt(table.size());
+        for (int row = 0; row < table.size(); row++) {
+            out.writeUTF(table.name(row));
+            out.writeByte(table.pathwayId(row));
+            out.writeByte(table.sequence(row));
+            out.writeDouble(table.acting(row));
+        }
+    }
+
+    private static BeyonderTable readTable(DataInputStream in) throws IOException {
+        String[] pathways = new String[in.readUnsignedShort()];
+        for (int i = 0; i < pathways.length; i++) {
+            pathways[i] = in.readUTF();
+        }
+
+        int size = in.readInt();
+        List<PlayerPathwayResponse> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String playerName = in.readUTF();
+            String pathway = pathways[in.readUnsignedByte()];
+            byte sequence = in.readByte();
+            double acting = in.readDouble();
+            rows.add(PlayerPathwayResponse.builder()
+                    .playerName(playerName)
+                    .beyonder(true)
+                    .pathway(pathway)
+                    .sequence(sequence == BeyonderTable.NO_SEQUENCE ? null : Integer.toString(sequence))
+                    .acting(Double.isNaN(acting) ? null : PathwayUtil.formatActing(acting))
+                    .build());
+        }
+        return BeyonderTable.of(rows);
+    }
+
+    private static void writeEntries(DataOutputStream out, Map<String, PlayerPathwayResponse> entries) throws IOException {
+        out.writeInt(entries.size());
+        for (PlayerPathwayResponse entry : entries.values()) {
+            out.writeUTF(entry.getPlayerName());
+            out.writeBoolean(Boolean.TRUE.equals(entry.getBeyonder()));
+            writeNullable(out, entry.getPathway());
+            writeNullable(out, entry.getSequence());
+            writeNullable(out, entry.getActing());
+        }
+    }
+
+    private static Map<String, PlayerPathwayResponse> readEntries(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, PlayerPathwayResponse> entries = new LinkedHashMap<>(Math.max(16, size * 4 / 3 + 1));
+        for (int i = 0; i < size; i++) {
+            PlayerPathwayResponse entry = PlayerPathwayResponse.builder()
+                    .playerName(in.readUTF())
+                    .beyonder(in.readBoolean())
+                    .pathway(readNullable(in))
+                    .sequence(readNullable(in))
+                    .acting(readNullable(in))
+                    .build();
+            entries.put(entry.getPlayerName(), entry);
+        }
+        return entries;
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
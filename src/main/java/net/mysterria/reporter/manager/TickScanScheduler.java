@@ -0,0 +1,218 @@
+package net.mysterria.reporter.manager;
+
+import dev.ua.ikeepcalm.coi.api.CircleOfImaginationAPI;
+import net.mysterria.reporter.MysterriaReporter;
+import net.mysterria.reporter.model.PlayerPathwayResponse;
+import net.mysterria.reporter.util.PathwayUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolves players on the main server thread, spending at most a time budget per tick.
+ * Lookups (single players and batches waiting on a request) are served before scans, so
+ * they never wait behind a full rescan. Within each kind jobs are worked off in submission
+ * order and keep their own position, so a large scan simply continues on the next tick
+ * where the previous one stopped. Every tick still moves a queued scan by at least one player.
+ * <p>
+ * The budget shrinks linearly once the average tick time passes the MSPT threshold,
+ * down to a tenth of the configured budget at 50 MSPT. At least one player is resolved
+ * per tick so a scan always finishes, even on a struggling server.
+ */
+public class TickScanScheduler {
+
+    private static final double TICK_MILLIS = 50.0;
+    private static final double MIN_BUDGET_SHARE = 0.1;
+
+    private final MysterriaReporter plugin;
+    private final CircleOfImaginationAPI coiAPI;
+    private final long budgetNanos;
+    private final double msptThreshold;
+
+    private final Queue<Job> lookups = new ConcurrentLinkedQueue<>();
+    private final Queue<Job> scans = new ConcurrentLinkedQueue<>();
+    private BukkitTask task;
+    private volatile boolean stopped;
+    private volatile long lastBudgetNanos;
+    private volatile long ticksUsed;
+
+    private static final class Job {
+
+        private final List<String> playerNames;
+        private final List<PlayerPathwayResponse> results;
+        private final AtomicInteger progress;
+        private final CompletableFuture<List<PlayerPathwayResponse>> future = new CompletableFuture<>();
+        private int position;
+        private RuntimeException failure;
+
+        private Job(List<String> playerNames, AtomicInteger progress) {
+            this.playerNames = playerNames;
+            this.results = new ArrayList<>(playerNames.size());
+            this.progress = progress;
+        }
+    }
+
+    public TickScanScheduler(MysterriaReporter plugin, CircleOfImaginationAPI coiAPI, double budgetMillis, double msptThreshold) {
+        this.plugin = plugin;
+        this.coiAPI = coiAPI;
+        this.budgetNanos = Math.max(100_000L, (long) (budgetMillis * 1_000_000L));
+        this.msptThreshold = Math.min(Math.max(msptThreshold, 0), TICK_MILLIS - 1);
+        this.lastBudgetNanos = budgetNanos;
+    }
+
+    /**
+     * Queues a scan for resolution on the main thread, behind any pending lookups
+     * @param progress Incremented once per processed player, may be null
+     * @return Results in input order, completed on the main thread. Players whose lookup failed are
+     *         left out; the job only fails if every player did.
+     */
+    public CompletableFuture<List<PlayerPathwayResponse>> submit(List<String> playerNames, AtomicInteger progress) {
+        return enqueue(scans, new Job(List.copyOf(playerNames), progress));
+    }
+
+    /**
+     * Queues players someone is waiting on, resolved ahead of scans
+     * @return Results as for {@link #submit}
+     */
+    public CompletableFuture<List<PlayerPathwayResponse>> submitLookup(List<String> playerNames) {
+        return enqueue(lookups, new Job(List.copyOf(playerNames), null));
+    }
+
+    private CompletableFuture<List<PlayerPathwayResponse>> enqueue(Queue<Job> queue, Job job) {
+        if (job.playerNames.isEmpty()) {
+            job.future.complete(job.results);
+            return job.future;
+        }
+
+        queue.add(job);
+        ensureRunning();
+        if (stopped && queue.remove(job)) {
+            job.future.completeExceptionally(new CancellationException("Tick scan scheduler is shut down"));
+        }
+        return job.future;
+    }
+
+    private synchronized void ensureRunning() {
+        if (stopped || task != null) {
+            return;
+        }
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    private void tick() {
+        long budget = currentBudgetNanos();
+        lastBudgetNanos = budget;
+        long deadline = System.nanoTime() + budget;
+
+        boolean lookedUp = work(lookups, deadline);
+        // Runs even when lookups used up the budget, so a scan cannot be starved
+        boolean scanned = work(scans, deadline);
+
+        if (lookedUp || scanned) {
+            ticksUsed++;
+        } else {
+            stopIfIdle();
+        }
+    }
+
+    /**
+     * Resolves players from the head of the queue until the deadline, but at least one if any is queued
+     * @return Whether any player was processed
+     */
+    private boolean work(Queue<Job> queue, long deadline) {
+        boolean worked = false;
+        do {
+            Job job = queue.peek();
+            if (job == null) {
+                break;
+            }
+            worked = true;
+
+            String playerName = job.playerNames.get(job.position++);
+            try {
+                job.results.add(PathwayUtil.getPlayerPathwayData(playerName, coiAPI));
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Failed to resolve pathway of " + playerName + ": " + e.getMessage());
+                if (job.failure == null) {
+                    job.failure = e;
+                }
+            }
+            if (job.progress != null) {
+                job.progress.incrementAndGet();
+            }
+
+            if (job.position == job.playerNames.size()) {
+                queue.poll();
+                if (job.results.isEmpty() && job.failure != null) {
+                    job.future.completeExceptionally(job.failure);
+                } else {
+                    job.future.complete(job.results);
+                }
+            }
+        } while (System.nanoTime() < deadline);
+        return worked;
+    }
+
+    private synchronized void stopIfIdle() {
+        if (lookups.isEmpty() && scans.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private long currentBudgetNanos() {
+        double mspt = Bukkit.getAverageTickTime();
+        if (mspt <= msptThreshold) {
+            return budgetNanos;
+        }
+        double share = Math.max(MIN_BUDGET_SHARE, (TICK_MILLIS - mspt) / (TICK_MILLIS - msptThreshold));
+        return (long) (budgetNanos * share);
+    }
+
+    /**
+     * Stops the tick task and fails every queued job, since the main thread will not run them anymore
+     */
+    public synchronized void shutdown() {
+        stopped = true;
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        for (Queue<Job> queue : List.of(lookups, scans)) {
+            Job job;
+            while ((job = queue.poll()) != null) {
+                job.future.completeExceptionally(new CancellationException("Tick scan scheduler is shut down"));
+            }
+        }
+    }
+
+    public int getQueuedJobs() {
+        return lookups.size() + scans.size();
+    }
+
+    /**
+     * @return Budget applied on the most recent tick, after MSPT adaptation
+     */
+    public long getLastBudgetNanos() {
+        return lastBudgetNanos;
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * @return Number of ticks that resolved at least one player
+     */
+    public long getTicksUsed() {
+        return ticksUsed;
+    }
+}
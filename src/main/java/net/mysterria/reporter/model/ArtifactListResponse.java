@@ -0,0 +1,31 @@
+package net.mysterria.reporter.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArtifactListResponse {
+
+    @JsonProperty("amount")
+    private Integer amount;
+
+    @JsonProperty("total")
+    private Integer total;
+
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
+    @JsonProperty("indexedAt")
+    private Long indexedAt;
+
+    @JsonProperty("artifacts")
+    private List<ArtifactSummaryResponse> artifacts;
+}
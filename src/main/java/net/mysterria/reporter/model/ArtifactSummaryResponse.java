@@ -0,0 +1,32 @@
+package net.mysterria.reporter.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArtifactSummaryResponse {
+
+    @JsonProperty("artifactId")
+    private String artifactId;
+
+    @JsonProperty("owner")
+    private String owner;
+
+    @JsonProperty("type")
+    private String type;
+
+    @JsonProperty("pathway")
+    private String pathway;
+
+    @JsonProperty("modified")
+    private Long modified;
+
+    @JsonProperty("found")
+    private Boolean found;
+}
@@ -0,0 +1,43 @@
+package net.mysterria.reporter.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BeyonderLogSearchResponse {
+
+    @JsonProperty("player")
+    private String player;
+
+    @JsonProperty("from")
+    private String from;
+
+    @JsonProperty("to")
+    private String to;
+
+    @JsonProperty("returned")
+    private Integer returned;
+
+    @JsonProperty("lines")
+    private List<String> lines;
+
+    @JsonProperty("found")
+    private Boolean found;
+
+    @JsonProperty("hasMore")
+    private Boolean hasMore;
+
+    @JsonProperty("cursor")
+    private String cursor;
+
+    @JsonProperty("scannedBytes")
+    private Long scannedBytes;
+}
@@ -28,4 +28,10 @@ public class BeyonderLogsResponse {
 
     @JsonProperty("found")
     private final boolean found;
+
+    @JsonProperty("cursor")
+    private final String cursor;
+
+    @JsonProperty("reset")
+    private final boolean reset;
 }
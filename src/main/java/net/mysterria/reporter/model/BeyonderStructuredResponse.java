@@ -0,0 +1,25 @@
+package net.mysterria.reporter.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Data
+@Getter
+@Builder
+@AllArgsConstructor
+public class BeyonderStructuredResponse {
+
+    @JsonProperty("player")
+    private final String player;
+
+    @JsonProperty("data")
+    private final Map<String, Object> data;
+
+    @JsonProperty("found")
+    private final boolean found;
+}
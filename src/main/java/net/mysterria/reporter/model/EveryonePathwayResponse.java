@@ -17,6 +17,12 @@ public class EveryonePathwayResponse {
     @JsonProperty("amount")
     private Integer amount;
 
+    @JsonProperty("version")
+    private Long version;
+
+    @JsonProperty("builtAt")
+    private Long builtAt;
+
     @JsonProperty("beyonders")
     private List<PlayerPathwayResponse> beyonder;
 
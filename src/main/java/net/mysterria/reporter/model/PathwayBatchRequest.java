@@ -0,0 +1,20 @@
+package net.mysterria.reporter.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PathwayBatchRequest {
+
+    @JsonProperty("players")
+    private List<String> players;
+
+}
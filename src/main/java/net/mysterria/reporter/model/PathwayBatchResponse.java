@@ -0,0 +1,38 @@
+package net.mysterria.reporter.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PathwayBatchResponse {
+
+    @JsonProperty("requested")
+    private Integer requested;
+
+    @JsonProperty("found")
+    private Integer found;
+
+    @JsonProperty("players")
+    private Map<String, Entry> players;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+
+        @JsonProperty("found")
+        private Boolean found;
+
+        @JsonProperty("data")
+        private PlayerPathwayResponse data;
+    }
+}
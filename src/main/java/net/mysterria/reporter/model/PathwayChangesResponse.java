@@ -0,0 +1,68 @@
+package net.mysterria.reporter.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PathwayChangesResponse {
+
+    @JsonProperty("since")
+    private Long since;
+
+    @JsonProperty("version")
+    private Long version;
+
+    @JsonProperty("resync")
+    private Boolean resync;
+
+    @JsonProperty("hasMore")
+    private Boolean hasMore;
+
+    @JsonProperty("changes")
+    private List<Change> changes;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+
+        @JsonProperty("version")
+        private Long version;
+
+        @JsonProperty("player")
+        private String playerName;
+
+        @JsonProperty("type")
+        private String type;
+
+        @JsonProperty("fields")
+        private List<String> fields;
+
+        @JsonProperty("pathway")
+        private String pathway;
+
+        @JsonProperty("sequence")
+        private String sequence;
+
+        @JsonProperty("acting")
+        private String acting;
+
+        @JsonProperty("previousPathway")
+        private String previousPathway;
+
+        @JsonProperty("previousSequence")
+        private String previousSequence;
+
+        @JsonProperty("previousActing")
+        private String previousActing;
+    }
+}
@@ -0,0 +1,29 @@
+package net.mysterria.reporter.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PathwayQueryResponse {
+
+    @JsonProperty("amount")
+    private Integer amount;
+
+    @JsonProperty("total")
+    private Integer total;
+
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
+    @JsonProperty("beyonders")
+    private List<PlayerPathwayResponse> beyonder;
+
+}
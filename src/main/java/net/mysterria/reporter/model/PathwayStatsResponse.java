@@ -0,0 +1,45 @@
+package net.mysterria.reporter.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PathwayStatsResponse {
+
+    @JsonProperty("amount")
+    private Integer amount;
+
+    @JsonProperty("averageActing")
+    private Double averageActing;
+
+    @JsonProperty("pathways")
+    private List<PathwayStats> pathways;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PathwayStats {
+
+        @JsonProperty("pathway")
+        private String pathway;
+
+        @JsonProperty("amount")
+        private Integer amount;
+
+        @JsonProperty("averageActing")
+        private Double averageActing;
+
+        @JsonProperty("sequences")
+        private Map<Integer, Integer> sequences;
+    }
+}
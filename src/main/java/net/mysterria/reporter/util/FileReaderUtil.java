@@ -3,17 +3,40 @@ package net.mysterria.reporter.util;
 import org.bukkit.Bukkit;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
 
 public class FileReaderUtil {
 
+    private static final int TAIL_BLOCK_SIZE = 8192;
+    private static final int MAX_ARCHIVED_LINE_BYTES = 64 * 1024;
+    private static final long MAX_ARCHIVED_TAIL_BYTES = 16L * 1024 * 1024;
+    private static final Pattern ARCHIVE_SUFFIX = Pattern.compile("(?:(\\d+)(?:\\.gz)?|gz)");
+    private static final LongAdder BYTES_READ = new LongAdder();
+
     private FileReaderUtil() {
         throw new UnsupportedOperationException("Utility class");
     }
@@ -34,7 +57,9 @@ public class FileReaderUtil {
                 return null;
             }
 
-            return Files.readString(filePath);
+            String content = Files.readString(filePath);
+            BYTES_READ.add(file.length());
+            return content;
         } catch (IOException e) {
             Bukkit.getLogger().severe("[MysterriaReporter] Error reading file: " + relativePath);
             e.printStackTrace();
@@ -61,12 +86,9 @@ public class FileReaderUtil {
                 return result;
             }
 
-            // Read all lines first (for simplicity, could optimize for very large files)
-            List<String> allLines = Files.readAllLines(filePath);
-
-            // Get last N lines
-            int startIndex = Math.max(0, allLines.size() - lineCount);
-            result = allLines.subList(startIndex, allLines.size());
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                result = readTail(channel, channel.size(), lineCount);
+            }
 
         } catch (IOException e) {
             Bukkit.getLogger().severe("[MysterriaReporter] Error reading log file: " + relativePath);
@@ -76,6 +98,424 @@ public class FileReaderUtil {
         return result;
     }
 
+    /**
+     * Reads the last N lines before {@code end} by scanning backwards in fixed-size blocks,
+     * then decoding only the bytes those lines occupy. Lines are split on '\n' (which never
+     * occurs inside a multi-byte UTF-8 sequence) and a trailing '\r' is dropped.
+     * @param channel Channel to read from
+     * @param end Byte offset treated as the end of the file
+     * @param lineCount Number of lines to read from the end
+     * @return Up to lineCount lines in file order
+     */
+    public static List<String> readTail(FileChannel channel, long end, int lineCount) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (end <= 0 || lineCount <= 0) {
+            return lines;
+        }
+
+        ByteBuffer block = ByteBuffer.allocate((int) Math.min(TAIL_BLOCK_SIZE, end));
+
+        // A terminator on the last line does not start another, empty line
+        block.limit(1);
+        readFully(channel, block, end - 1);
+        long contentEnd = block.get(0) == '\n' ? end - 1 : end;
+
+        long start = 0;
+        long position = contentEnd;
+        int newlines = 0;
+        scan:
+        while (position > 0) {
+            int length = (int) Math.min(block.capacity(), position);
+            position -= length;
+            block.clear().limit(length);
+            readFully(channel, block, position);
+
+            for (int i = length - 1; i >= 0; i--) {
+                if (block.get(i) == '\n' && ++newlines == lineCount) {
+                    start = position + i + 1;
+                    break scan;
+                }
+            }
+        }
+
+        ByteBuffer region = ByteBuffer.allocate(Math.toIntExact(contentEnd - start));
+        readFully(channel, region, start);
+        byte[] bytes = region.array();
+
+        int lineStart = 0;
+        for (int i = 0; i <= bytes.length; i++) {
+            if (i == bytes.length || bytes[i] == '\n') {
+                lines.add(decodeLine(bytes, lineStart, i));
+                lineStart = i + 1;
+            }
+        }
+
+        return lines;
+    }
+
+    /**
+     * Result of a cursor-based log read
+     * @param lines Lines read, in file order
+     * @param cursor Cursor to pass back to continue after these lines, or null if the file is missing
+     * @param reset True if the supplied cursor no longer matched the file (rotated or truncated)
+     */
+    public record LogChunk(List<String> lines, String cursor, boolean reset) {
+    }
+
+    /**
+     * Reads log lines relative to a cursor. Without a cursor it returns the last lineCount complete
+     * lines; a line still being written is returned by the next read once it ends. With a valid
+     * cursor it returns at most lineCount complete lines appended after it with a single positioned
+     * read. A cursor for a rotated or truncated file falls back to a tail read and sets reset.
+     * @param relativePath Path relative to server root (e.g., "plugins/CircleOfImagination/logs/player.log")
+     * @param encodedCursor Cursor returned by a previous call, or null to start from the tail
+     * @param lineCount Maximum number of lines to return
+     * @return Lines and the cursor to continue from
+     */
+    public static LogChunk readLinesSince(String relativePath, String encodedCursor, int lineCount) {
+        return readLinesSince(relativePath, encodedCursor, lineCount, Long.MAX_VALUE);
+    }
+
+    /**
+     * Same as {@link #readLinesSince(String, String, int)} but treats endLimit as the end of the file,
+     * so lines appended after that offset are left for a later read
+     */
+    public static LogChunk readLinesSince(String relativePath, String encodedCursor, int lineCount, long endLimit) {
+        return readLinesSince(relativePath, encodedCursor, lineCount, endLimit, false);
+    }
+
+    /**
+     * Same as {@link #readLinesSince(String, String, int)}, but a tail read that finds fewer than lineCount
+     * lines in the live file continues into its rotated siblings (see {@link #readArchivedTail}), so the
+     * live log and its archives read as one stream. The cursor still refers to the live file only.
+     */
+    public static LogChunk readLinesSinceWithArchives(String relativePath, String encodedCursor, int lineCount) {
+        return readLinesSince(relativePath, encodedCursor, lineCount, Long.MAX_VALUE, true);
+    }
+
+    private static LogChunk readLinesSince(String relativePath, String encodedCursor, int lineCount, long endLimit,
+                                           boolean includeArchives) {
+        Path filePath = Paths.get("").toAbsolutePath().resolve(relativePath);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long fileId = LogCursor.fileId(Files.readAttributes(filePath, BasicFileAttributes.class));
+            long size = Math.min(channel.size(), endLimit);
+            LogCursor cursor = LogCursor.decode(encodedCursor);
+
+            if (cursor != null && cursor.fileId() == fileId && cursor.offset() <= size
+                && cursor.headHash() == headHash(channel, cursor.offset())) {
+                List<String> lines = new ArrayList<>();
+                long consumed = readForward(channel, cursor.offset(), size, lineCount, lines);
+                return new LogChunk(lines, new LogCursor(fileId, headHash(channel, consumed), consumed).encode(), false);
+            }
+
+            // A trailing partial line is left out, like in readForward, so the cursor never sends it twice
+            long completeEnd = lastLineEnd(channel, size);
+            List<String> lines = readTail(channel, completeEnd, lineCount);
+            if (includeArchives && lines.size() < lineCount) {
+                lines = readArchivedTail(filePath, lineCount - lines.size(), lines);
+            }
+            return new LogChunk(lines, new LogCursor(fileId, headHash(channel, completeEnd), completeEnd).encode(), encodedCursor != null);
+        } catch (NoSuchFileException e) {
+            Bukkit.getLogger().warning("[MysterriaReporter] Log file not found: " + filePath);
+        } catch (IOException e) {
+            Bukkit.getLogger().severe("[MysterriaReporter] Error reading log file: " + relativePath);
+            e.printStackTrace();
+        }
+
+        return new LogChunk(new ArrayList<>(), null, encodedCursor != null);
+    }
+
+    /**
+     * Prepends up to lineCount lines from the rotated siblings of a log ({@code <name>.log.N},
+     * {@code <name>.log.N.gz}, {@code <name>.log.gz}), newest archive first, stopping as soon as
+     * enough lines are found. Plain archives are tail-read like the live file; gzip archives can
+     * only be read forward, so they are streamed while a ring of the last lines still needed is
+     * kept, which bounds memory by the requested line count rather than the archive size. The
+     * rings of all gzip archives also share a budget of {@link #MAX_ARCHIVED_TAIL_BYTES}; once it
+     * is used up the oldest lines are dropped and no older archive is read, so the result stays
+     * contiguous but may hold fewer lines than asked for.
+     * An unreadable archive ends the read with the lines found so far.
+     * @param liveFile Path of the live log
+     * @param lineCount Number of older lines wanted
+     * @param newer Lines already read from newer files, in file order
+     * @return Archived lines followed by newer, in file order
+     */
+    public static List<String> readArchivedTail(Path liveFile, int lineCount, List<String> newer) {
+        List<List<String>> chunks = new ArrayList<>();
+        int needed = lineCount;
+        long byteBudget = MAX_ARCHIVED_TAIL_BYTES;
+
+        try {
+            for (Path archive : rotatedLogs(liveFile)) {
+                if (needed <= 0) {
+                    break;
+                }
+
+                List<String> archived;
+                if (archive.getFileName().toString().endsWith(".gz")) {
+                    GzipTail tail = readGzipTail(archive, needed, byteBudget);
+                    archived = tail.lines();
+                    byteBudget -= tail.bytes();
+                    if (tail.truncated()) {
+                        // Older lines were dropped to stay within the budget; reading further back would leave a gap
+                        chunks.add(archived);
+                        needed = 0;
+                        break;
+                    }
+                } else {
+                    try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+                        archived = readTail(channel, channel.size(), needed);
+                    }
+                }
+                chunks.add(archived);
+                needed -= archived.size();
+            }
+        } catch (IOException e) {
+            Bukkit.getLogger().warning("[MysterriaReporter] Error reading rotated logs of " + liveFile + ": " + e.getMessage());
+        }
+
+        if (chunks.isEmpty()) {
+            return newer;
+        }
+
+        List<String> lines = new ArrayList<>(lineCount - needed + newer.size());
+        for (int i = chunks.size() - 1; i >= 0; i--) {
+            lines.addAll(chunks.get(i));
+        }
+        lines.addAll(newer);
+        return lines;
+    }
+
+    /**
+     * @return Rotated siblings of the log, newest first by modification time, then by rotation number
+     */
+    private static List<Path> rotatedLogs(Path liveFile) throws IOException {
+        Path directory = liveFile.toAbsolutePath().getParent();
+        String prefix = liveFile.getFileName().toString() + ".";
+
+        record Archive(Path path, long modified, long number) {
+        }
+        List<Archive> archives = new ArrayList<>();
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(directory, escapeGlob(prefix) + "*")) {
+            for (Path sibling : siblings) {
+                Matcher matcher = ARCHIVE_SUFFIX.matcher(sibling.getFileName().toString().substring(prefix.length()));
+                if (!matcher.matches() || !Files.isRegularFile(sibling)) {
+                    continue;
+                }
+                long number = matcher.group(1) != null ? Long.parseLong(matcher.group(1)) : 0;
+                archives.add(new Archive(sibling, Files.getLastModifiedTime(sibling).toMillis(), number));
+            }
+        } catch (NoSuchFileException e) {
+            return List.of();
+        }
+
+        archives.sort(Comparator.comparingLong(Archive::modified).reversed().thenComparingLong(Archive::number));
+        List<Path> paths = new ArrayList<>(archives.size());
+        for (Archive archive : archives) {
+            paths.add(archive.path());
+        }
+        return paths;
+    }
+
+    private static String escapeGlob(String value) {
+        return value.replaceAll("([\\\\*?\\[\\]{}])", "\\\\$1");
+    }
+
+    /**
+     * Last lines of a gzip archive
+     * @param bytes Raw size of the returned lines
+     * @param truncated True if older lines were dropped because of the byte budget rather than the line count
+     */
+    private record GzipTail(List<String> lines, long bytes, boolean truncated) {
+    }
+
+    /**
+     * Streams a gzip archive and keeps its last lineCount lines, holding at most byteBudget bytes of them.
+     * Lines are held as raw bytes and only the surviving ones are decoded; a line longer than
+     * {@link #MAX_ARCHIVED_LINE_BYTES} is truncated.
+     */
+    private static GzipTail readGzipTail(Path archive, int lineCount, long byteBudget) throws IOException {
+        LineRing ring = new LineRing(lineCount, byteBudget);
+        ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        byte[] block = new byte[TAIL_BLOCK_SIZE];
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(archive), TAIL_BLOCK_SIZE)) {
+            int length;
+            while ((length = in.read(block)) > 0) {
+                int segmentStart = 0;
+                for (int i = 0; i < length; i++) {
+                    if (block[i] != '\n') {
+                        continue;
+                    }
+                    appendCapped(pending, block, segmentStart, i - segmentStart);
+                    ring.add(pending.toByteArray());
+                    pending.reset();
+                    segmentStart = i + 1;
+                }
+                appendCapped(pending, block, segmentStart, length - segmentStart);
+            }
+        }
+        if (pending.size() > 0) {
+            ring.add(pending.toByteArray());
+        }
+        BYTES_READ.add(Files.size(archive));
+
+        List<String> lines = new ArrayList<>(ring.lines.size());
+        for (byte[] line : ring.lines) {
+            lines.add(decodeLine(line, 0, line.length));
+        }
+        return new GzipTail(lines, ring.bytes, ring.truncated);
+    }
+
+    /**
+     * Newest lines seen so far, bounded by both a line count and a byte budget
+     */
+    private static final class LineRing {
+
+        private final ArrayDeque<byte[]> lines;
+        private final int lineCount;
+        private final long byteBudget;
+        private long bytes;
+        private boolean truncated;
+
+        private LineRing(int lineCount, long byteBudget) {
+            this.lines = new ArrayDeque<>(Math.min(lineCount, 1024));
+            this.lineCount = lineCount;
+            this.byteBudget = byteBudget;
+        }
+
+        private void add(byte[] line) {
+            lines.addLast(line);
+            bytes += line.length;
+            if (lines.size() > lineCount) {
+                bytes -= lines.pollFirst().length;
+            }
+            while (bytes > byteBudget && !lines.isEmpty()) {
+                bytes -= lines.pollFirst().length;
+                truncated = true;
+            }
+        }
+    }
+
+    private static void appendCapped(ByteArrayOutputStream pending, byte[] bytes, int from, int length) {
+        int room = MAX_ARCHIVED_LINE_BYTES - pending.size();
+        if (room > 0) {
+            pending.write(bytes, from, Math.min(room, length));
+        }
+    }
+
+    /**
+     * Reads complete lines forward from start, stopping at lineCount lines or at the last
+     * newline before end. A trailing partial line is left for the next read.
+     * @return Offset just past the last line that was returned
+     */
+    private static long readForward(FileChannel channel, long start, long end, int lineCount, List<String> lines) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(TAIL_BLOCK_SIZE);
+        ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        long position = start;
+        long consumed = start;
+
+        while (position < end && lines.size() < lineCount) {
+            block.clear().limit((int) Math.min(block.capacity(), end - position));
+            readFully(channel, block, position);
+            byte[] bytes = block.array();
+            int length = block.limit();
+
+            int segmentStart = 0;
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != '\n') {
+                    continue;
+                }
+
+                if (pending.size() > 0) {
+                    pending.write(bytes, segmentStart, i - segmentStart);
+                    byte[] line = pending.toByteArray();
+                    lines.add(decodeLine(line, 0, line.length));
+                    pending.reset();
+                } else {
+                    lines.add(decodeLine(bytes, segmentStart, i));
+                }
+
+                consumed = position + i + 1;
+                segmentStart = i + 1;
+                if (lines.size() == lineCount) {
+                    return consumed;
+                }
+            }
+
+            pending.write(bytes, segmentStart, length - segmentStart);
+            position += length;
+        }
+
+        return consumed;
+    }
+
+    /**
+     * @return Offset just past the last '\n' before end, or 0 if there is none
+     */
+    private static long lastLineEnd(FileChannel channel, long end) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(TAIL_BLOCK_SIZE);
+        long position = end;
+        while (position > 0) {
+            int length = (int) Math.min(block.capacity(), position);
+            position -= length;
+            block.clear().limit(length);
+            readFully(channel, block, position);
+
+            for (int i = length - 1; i >= 0; i--) {
+                if (block.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Hashes the first bytes of the file up to offset; bytes before a cursor never change on append
+     */
+    public static int headHash(FileChannel channel, long offset) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate((int) Math.min(LogCursor.HEAD_LENGTH, offset));
+        readFully(channel, head, 0);
+        return Arrays.hashCode(head.array());
+    }
+
+    /**
+     * Decodes one UTF-8 line, dropping a trailing '\r'
+     */
+    public static String decodeLine(byte[] bytes, int from, int to) {
+        int end = to > from && bytes[to - 1] == '\r' ? to - 1 : to;
+        return new String(bytes, from, end - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Fills the buffer from the given file position, counting the bytes towards {@link #getBytesRead()}
+     */
+    public static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Unexpected end of file at " + (position + buffer.position()));
+            }
+            BYTES_READ.add(read);
+        }
+    }
+
+    /**
+     * Adds to the bytes-read counter for files read outside this class
+     */
+    public static void recordBytesRead(long bytes) {
+        BYTES_READ.add(bytes);
+    }
+
+    /**
+     * @return Total bytes read from data and log files since startup
+     */
+    public static long getBytesRead() {
+        return BYTES_READ.sum();
+    }
+
     /**
      * Sanitizes a player name for file path usage
      * @param playerName Player name to sanitize
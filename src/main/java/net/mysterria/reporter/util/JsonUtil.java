@@ -0,0 +1,30 @@
+package net.mysterria.reporter.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class JsonUtil {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JsonUtil() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Serializes a value to UTF-8 JSON bytes using the same Jackson annotations the web server honours
+     * @param value Value to serialize
+     * @return JSON bytes
+     */
+    public static byte[] toJsonBytes(Object value) {
+        try {
+            return MAPPER.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    public static ObjectMapper getMapper() {
+        return MAPPER;
+    }
+}
@@ -0,0 +1,60 @@
+package net.mysterria.reporter.util;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Base64;
+
+/**
+ * Opaque position in a log file: the byte offset just past the last complete line
+ * that was returned, plus an identity of the file it belongs to so that rotation
+ * can be told apart from appends. Inodes are reused quickly on some filesystems, so
+ * the identity also covers a hash of the first {@link #HEAD_LENGTH} bytes already read.
+ */
+public record LogCursor(long fileId, int headHash, long offset) {
+
+    public static final int HEAD_LENGTH = 64;
+
+    public String encode() {
+        String raw = Long.toHexString(fileId) + ":" + Integer.toHexString(headHash) + ":" + Long.toHexString(offset);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param encoded Cursor previously returned to a client
+     * @return Decoded cursor, or null if it is missing or malformed
+     */
+    public static LogCursor decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) {
+                return null;
+            }
+            long offset = Long.parseUnsignedLong(parts[2], 16);
+            if (offset < 0) {
+                return null;
+            }
+            return new LogCursor(Long.parseUnsignedLong(parts[0], 16), Integer.parseUnsignedInt(parts[1], 16), offset);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Derives a file identity from the inode where the platform exposes one, falling back to creation time
+     */
+    public static long fileId(BasicFileAttributes attributes) {
+        Object fileKey = attributes.fileKey();
+        if (fileKey != null) {
+            long hash = 1125899906842597L;
+            for (char c : fileKey.toString().toCharArray()) {
+                hash = 31 * hash + c;
+            }
+            return hash;
+        }
+        return attributes.creationTime().toMillis();
+    }
+}
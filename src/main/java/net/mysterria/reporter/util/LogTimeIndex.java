@@ -0,0 +1,143 @@
+package net.mysterria.reporter.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Sparse timestamp to byte offset index of one log file. Every {@code interval} bytes
+ * the first timestamped line after that position is sampled with a single small read,
+ * so building the index touches a few KiB per interval rather than the whole file.
+ * Logs are append-only, so timestamps grow with the offset and a time is located by
+ * binary search; samples that go backwards in time are left out to keep that true.
+ * <p>
+ * An index stays usable while the file is only appended to: {@link #extend} samples
+ * the new intervals and keeps the existing entries.
+ */
+public final class LogTimeIndex {
+
+    private static final int SAMPLE_SIZE = 4096;
+
+    private final long fileId;
+    private final int headLength;
+    private final int headHash;
+    private final int interval;
+    private final long nextBoundary;
+    private final long[] offsets;
+    private final long[] times;
+
+    private LogTimeIndex(long fileId, int headLength, int headHash, int interval, long nextBoundary,
+                         long[] offsets, long[] times) {
+        this.fileId = fileId;
+        this.headLength = headLength;
+        this.headHash = headHash;
+        this.interval = interval;
+        this.nextBoundary = nextBoundary;
+        this.offsets = offsets;
+        this.times = times;
+    }
+
+    /**
+     * Returns an index covering the file up to size, reusing previous if it belongs to the same,
+     * only appended-to file and was built with the same interval
+     */
+    public static LogTimeIndex extend(LogTimeIndex previous, FileChannel channel, long fileId, long size,
+                                      int interval, LogTimestampParser parser) throws IOException {
+        if (previous != null && previous.covers(channel, fileId, size, interval)) {
+            if (previous.nextBoundary >= size) {
+                return previous;
+            }
+            return sample(channel, fileId, size, interval, parser,
+                    previous.nextBoundary, previous.offsets, previous.times, previous.offsets.length);
+        }
+        return sample(channel, fileId, size, interval, parser, interval, new long[16], new long[16], 0);
+    }
+
+    private boolean covers(FileChannel channel, long fileId, long size, int interval) throws IOException {
+        return this.fileId == fileId && this.interval == interval && size >= headLength
+               && FileReaderUtil.headHash(channel, headLength) == headHash;
+    }
+
+    private static LogTimeIndex sample(FileChannel channel, long fileId, long size, int interval, LogTimestampParser parser,
+                                       long boundary, long[] offsets, long[] times, int count) throws IOException {
+        offsets = Arrays.copyOf(offsets, Math.max(count + 16, offsets.length));
+        times = Arrays.copyOf(times, offsets.length);
+        ByteBuffer block = ByteBuffer.allocate(SAMPLE_SIZE);
+
+        for (; boundary < size; boundary += interval) {
+            block.clear().limit((int) Math.min(SAMPLE_SIZE, size - boundary));
+            FileReaderUtil.readFully(channel, block, boundary);
+
+            Sample sample = firstTimestamp(block.array(), block.limit(), boundary, parser);
+            if (sample == null) {
+                if (boundary + block.limit() >= size) {
+                    // No complete line after this boundary yet; sample it again once the file has grown
+                    break;
+                }
+                continue;
+            }
+            if (count > 0 && sample.time() < times[count - 1]) {
+                continue;
+            }
+
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+                times = Arrays.copyOf(times, count * 2);
+            }
+            offsets[count] = sample.offset();
+            times[count] = sample.time();
+            count++;
+        }
+
+        int headLength = (int) Math.min(LogCursor.HEAD_LENGTH, size);
+        return new LogTimeIndex(fileId, headLength, FileReaderUtil.headHash(channel, headLength), interval, boundary,
+                Arrays.copyOf(offsets, count), Arrays.copyOf(times, count));
+    }
+
+    private record Sample(long offset, long time) {
+    }
+
+    /**
+     * @return Start and timestamp of the first complete, timestamped line that starts after the block's first newline
+     */
+    private static Sample firstTimestamp(byte[] bytes, int length, long position, LogTimestampParser parser) {
+        int lineStart = -1;
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            if (lineStart >= 0) {
+                long time = parser.parse(FileReaderUtil.decodeLine(bytes, lineStart, i));
+                if (time != LogTimestampParser.NONE) {
+                    return new Sample(position + lineStart, time);
+                }
+            }
+            lineStart = i + 1;
+        }
+        return null;
+    }
+
+    /**
+     * @param time Local epoch seconds, as produced by {@link LogTimestampParser}
+     * @return Offset of a line start at or before the first line with a timestamp at or after time
+     */
+    public long startOffset(long time) {
+        int low = 0;
+        int high = times.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        // Entry low - 1 is the last one strictly before time; every line ahead of it is earlier still
+        return low == 0 ? 0 : offsets[low - 1];
+    }
+
+    public int size() {
+        return offsets.length;
+    }
+}
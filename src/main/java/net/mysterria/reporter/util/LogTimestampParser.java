@@ -0,0 +1,63 @@
+package net.mysterria.reporter.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the timestamp at the start of a log line. Timestamps are compared as
+ * local date-times, so they are returned as epoch seconds of that local time read
+ * as UTC; only their order matters, not the zone the server writes them in.
+ */
+public final class LogTimestampParser {
+
+    public static final long NONE = Long.MIN_VALUE;
+
+    private final Pattern pattern;
+    private final DateTimeFormatter format;
+
+    /**
+     * @param regex Pattern whose first group (or whole match without groups) is the timestamp
+     * @param format {@link DateTimeFormatter} pattern of the timestamp
+     * @throws IllegalArgumentException if either is invalid
+     */
+    public LogTimestampParser(String regex, String format) {
+        this.pattern = Pattern.compile(regex);
+        this.format = DateTimeFormatter.ofPattern(format);
+    }
+
+    /**
+     * @return Local epoch seconds of the line's timestamp, or {@link #NONE} if it has none
+     */
+    public long parse(String line) {
+        Matcher matcher = pattern.matcher(line);
+        if (!matcher.find()) {
+            return NONE;
+        }
+        String value = matcher.groupCount() > 0 ? matcher.group(1) : matcher.group();
+        try {
+            return toKey(LocalDateTime.parse(value, format));
+        } catch (DateTimeParseException e) {
+            return NONE;
+        }
+    }
+
+    /**
+     * Parses a timestamp given in the log's own format
+     * @return Local epoch seconds, or {@link #NONE} if it does not match the format
+     */
+    public long parseValue(String value) {
+        try {
+            return toKey(LocalDateTime.parse(value, format));
+        } catch (DateTimeParseException e) {
+            return NONE;
+        }
+    }
+
+    public static long toKey(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
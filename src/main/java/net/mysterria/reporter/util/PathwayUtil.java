@@ -65,7 +65,14 @@ public class PathwayUtil {
             return "0";
         }
 
-        return String.valueOf(acting / neededActing);
+        return formatActing(acting / neededActing);
+    }
+
+    /**
+     * Formats an acting ratio the same way for single lookups and the everyone snapshot
+     */
+    public static String formatActing(double acting) {
+        return acting == 0 ? "0" : String.valueOf(acting);
     }
 
     private static PlayerPathwayResponse createNonBeyonderResponse(String playerName) {